@@ -7,6 +7,7 @@ plugins {
     spotless(GRADLE)
     spotless(JAVA)
     alias(libs.plugins.jreleaser)
+    alias(libs.plugins.jmh)
 }
 
 group = "team.idealstate.sugar"
@@ -45,6 +46,33 @@ glass {
     withJUnitTest()
 }
 
+val java11: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java11")
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+tasks.named<JavaCompile>(java11.compileJavaTaskName) {
+    options.release.set(11)
+}
+
+tasks.withType<Jar>().matching { it.name == "jar" || it.name == "shadowJar" }.configureEach {
+    into("META-INF/versions/11") {
+        from(java11.output)
+    }
+    manifest {
+        attributes(
+            "Multi-Release" to "true",
+            "Main-Class" to "team.idealstate.sugar.agent.Prefetch",
+        )
+    }
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    resultFormat.set("JSON")
+    includeTests.set(true)
+}
+
 repositories {
     mavenLocal()
     aliyun()
@@ -0,0 +1,105 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.logging.LogLevel;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class SimpleMavenResolverHttpBenchmark {
+
+    @Param({"CHAIN", "FAN_OUT"})
+    public FixtureRepository.Shape shape;
+
+    @Param({"0", "20"})
+    public long latency;
+
+    @Param({"0", "1048576"})
+    public long bandwidth;
+
+    @Param({"false", "true"})
+    public boolean compression;
+
+    private Path directory;
+    private Path localDirectory;
+    private FixtureServer server;
+    private SimpleMavenResolver resolver;
+    private List<Dependency> dependencies;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Log.setLevel(LogLevel.WARN);
+        this.directory = Files.createTempDirectory("sugar-jmh-");
+        this.localDirectory = directory.resolve("local");
+        FixtureRepository fixture = FixtureRepository.create(directory.resolve("remote"), shape);
+        this.server = FixtureServer.start(
+                fixture.getDirectory(),
+                new FixtureServer.Options()
+                        .latency(latency)
+                        .bandwidth(bandwidth)
+                        .compression(compression));
+        this.resolver = new SimpleMavenResolver(
+                new SimpleLocalRepository("local", localDirectory.toFile(), Collections.emptyList()),
+                Collections.singletonList(
+                        new SimpleRemoteRepository("fixture", server.getUrl(), Collections.emptyList())),
+                new SimpleDependencyResolver());
+        this.dependencies =
+                Collections.singletonList(resolver.getDependencyResolver().resolve(fixture.getRootId()));
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() throws IOException {
+        FixtureRepository.delete(localDirectory);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        server.close();
+        FixtureRepository.delete(directory);
+    }
+
+    @Benchmark
+    public List<ResolvedArtifact> resolve() {
+        return resolver.resolve(dependencies);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimplePomBenchmark {
+
+    @Param({"8", "64", "512"})
+    public int dependencies;
+
+    private SimpleDependencyResolver dependencyResolver;
+    private byte[] pom;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.dependencyResolver = new SimpleDependencyResolver();
+        List<String> dependencies = new ArrayList<>(this.dependencies);
+        Map<String, String> properties = new LinkedHashMap<>(this.dependencies);
+        for (int i = 0; i < this.dependencies; i++) {
+            String key = "dependency-" + i + ".version";
+            properties.put(key, "1." + i);
+            dependencies.add(FixtureRepository.GROUP_ID + ":dependency-" + i + ":${" + key + "}");
+        }
+        this.pom = FixtureRepository.pom(
+                FixtureRepository.GROUP_ID, "bom", FixtureRepository.VERSION, dependencies, properties);
+    }
+
+    @Benchmark
+    public SimplePom parse() {
+        return SimplePom.resolve(dependencyResolver, new ByteArrayInputStream(pom));
+    }
+
+    @Benchmark
+    public List<SimpleDependency> parseAndInterpolate() {
+        return SimplePom.resolve(dependencyResolver, new ByteArrayInputStream(pom))
+                .getDependencies();
+    }
+}
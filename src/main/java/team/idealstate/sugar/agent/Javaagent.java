@@ -30,6 +30,8 @@ import team.idealstate.sugar.SugarLoggerLoader;
 import team.idealstate.sugar.agent.exception.JavaagentException;
 import team.idealstate.sugar.banner.Banner;
 import team.idealstate.sugar.exception.SugarException;
+import team.idealstate.sugar.jfr.ClasspathAppendEvent;
+import team.idealstate.sugar.jfr.Jfr;
 import team.idealstate.sugar.logging.Log;
 import team.idealstate.sugar.validate.Validation;
 import team.idealstate.sugar.validate.annotation.NotNull;
@@ -77,11 +79,21 @@ public abstract class Javaagent {
                 continue;
             }
             String id = entry.getKey();
+            ClasspathAppendEvent event = Jfr.classpathAppend();
+            event.begin();
             try {
                 instrumentation.appendToSystemClassLoaderSearch(new JarFile(artifact));
                 Log.info(() -> String.format("Append to system classpath: '%s'", id));
             } catch (IOException e) {
                 throw new SugarException(e);
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.setCoordinates(id);
+                    event.setFile(path);
+                    event.setBytes(artifact.length());
+                    event.commit();
+                }
             }
         }
     }
@@ -0,0 +1,236 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.agent;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import team.idealstate.sugar.banner.Banner;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.DependencyResolver;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.MavenResolver;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.maven.resolver.api.util.IntegrityScanner;
+import team.idealstate.sugar.maven.resolver.spi.MavenResolverLoader;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public abstract class Prefetch {
+
+    public static final String DEFAULT_LOADER = "simple";
+    private static final String OPTION_LOADER = "--loader";
+    private static final String OPTION_SCOPE = "--scope";
+    private static final String ARGUMENT_FILE_PREFIX = "@";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String INDEX_FILE_NAME = "index.txt";
+    private static final String POM_EXTENSION = ".pom";
+    private static final String LOCATION_BASE_DELIMITER = "/";
+    private static final String LOCATION_EXTENSION_DELIMITER = ".";
+    private static final String USAGE = "Usage: java -cp sugar.jar " + Prefetch.class.getName()
+            + " [" + OPTION_LOADER + " <name>] [" + OPTION_SCOPE + " <scope>]... <config.xml> <dependency|@file>...";
+
+    public static void main(String[] arguments) {
+        int status;
+        try {
+            status = run(arguments);
+        } catch (IllegalArgumentException e) {
+            Log.error(e.getMessage());
+            Log.error(USAGE);
+            status = 2;
+        } catch (Throwable e) {
+            Log.error(e);
+            status = 1;
+        }
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    public static int run(@NotNull String... arguments) throws IOException {
+        Validation.notNull(arguments, "Arguments must not be null.");
+        String loaderName = DEFAULT_LOADER;
+        Set<DependencyScope> scopes = new LinkedHashSet<>();
+        List<String> positional = new ArrayList<>(arguments.length);
+        for (int i = 0; i < arguments.length; i++) {
+            String argument = arguments[i];
+            if (OPTION_LOADER.equals(argument) || OPTION_SCOPE.equals(argument)) {
+                if (i + 1 >= arguments.length) {
+                    throw new IllegalArgumentException(String.format("Missing value for option '%s'.", argument));
+                }
+                String value = arguments[++i];
+                if (OPTION_LOADER.equals(argument)) {
+                    loaderName = value;
+                } else {
+                    scopes.add(DependencyScope.of(value));
+                }
+            } else if (argument.startsWith("--")) {
+                throw new IllegalArgumentException(String.format("Unknown option '%s'.", argument));
+            } else {
+                positional.add(argument);
+            }
+        }
+        if (positional.size() < 2) {
+            throw new IllegalArgumentException("Configuration file and at least one dependency are required.");
+        }
+        File configurationFile = new File(positional.get(0));
+        if (!configurationFile.isFile()) {
+            throw new IllegalArgumentException(
+                    String.format("Configuration file '%s' does not exist.", configurationFile));
+        }
+        Banner.lines(Prefetch.class).forEach(Log::info);
+
+        long startedAt = System.nanoTime();
+        MavenResolver resolver =
+                MavenResolverLoader.instance(loaderName, Prefetch.class.getClassLoader())
+                        .load(configurationFile, Prefetch.class.getClassLoader());
+        long loadedAt = System.nanoTime();
+
+        DependencyResolver dependencyResolver = resolver.getDependencyResolver();
+        List<Dependency> dependencies = new ArrayList<>();
+        for (String dependencyId : readDependencyIds(positional.subList(1, positional.size()))) {
+            dependencies.add(dependencyResolver.resolve(dependencyId));
+        }
+        if (dependencies.isEmpty()) {
+            throw new IllegalArgumentException("At least one dependency is required.");
+        }
+        long parsedAt = System.nanoTime();
+
+        List<ResolvedArtifact> artifacts = resolver.resolve(dependencies, scopes.toArray(new DependencyScope[0]));
+        long resolvedAt = System.nanoTime();
+
+        File location = resolver.getLocalRepository().getLocation();
+        Set<File> files = new LinkedHashSet<>();
+        for (ResolvedArtifact artifact : artifacts) {
+            File file = artifact.getFile();
+            files.add(file);
+            File pomFile = makePomFile(file);
+            if (pomFile.isFile()) {
+                files.add(pomFile);
+            }
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        for (File file : files) {
+            paths.add(relativize(location, file));
+            for (File checksumFile : IntegrityScanner.writeChecksums(file)) {
+                paths.add(relativize(location, checksumFile));
+            }
+        }
+        File indexFile = writeIndex(location, paths);
+        long indexedAt = System.nanoTime();
+
+        long totalBytes = 0L;
+        for (ResolvedArtifact artifact : artifacts) {
+            File file = artifact.getFile();
+            long length = file.length();
+            totalBytes += length;
+            Log.info(String.format(
+                    "%s:%s:%s (%s) %d bytes -> %s",
+                    artifact.getGroupId(),
+                    artifact.getArtifactId(),
+                    artifact.getVersion(),
+                    artifact.getActualVersion(),
+                    length,
+                    file));
+        }
+        Log.info(String.format(
+                "Prefetched %d artifacts (%d bytes) for %d dependencies into '%s'.",
+                artifacts.size(), totalBytes, dependencies.size(), location));
+        Log.info(String.format("Wrote checksums of %d files and index '%s'.", files.size(), indexFile));
+        Log.info(String.format(
+                "Timing: load %d ms, parse %d ms, resolve %d ms, index %d ms, total %d ms.",
+                millis(startedAt, loadedAt),
+                millis(loadedAt, parsedAt),
+                millis(parsedAt, resolvedAt),
+                millis(resolvedAt, indexedAt),
+                millis(startedAt, indexedAt)));
+        return 0;
+    }
+
+    @NotNull
+    private static List<String> readDependencyIds(@NotNull List<String> arguments) throws IOException {
+        List<String> dependencyIds = new ArrayList<>(arguments.size());
+        for (String argument : arguments) {
+            if (!argument.startsWith(ARGUMENT_FILE_PREFIX)) {
+                dependencyIds.add(argument.trim());
+                continue;
+            }
+            File file = new File(argument.substring(ARGUMENT_FILE_PREFIX.length()));
+            if (!file.isFile()) {
+                throw new IllegalArgumentException(String.format("Dependency file '%s' does not exist.", file));
+            }
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                dependencyIds.add(line);
+            }
+        }
+        return dependencyIds;
+    }
+
+    @NotNull
+    private static File makePomFile(@NotNull File file) {
+        String name = file.getName();
+        int extensionIndex = name.lastIndexOf(LOCATION_EXTENSION_DELIMITER);
+        String baseName = extensionIndex < 0 ? name : name.substring(0, extensionIndex);
+        return new File(file.getParentFile(), baseName + POM_EXTENSION);
+    }
+
+    @NotNull
+    private static String relativize(@NotNull File location, @NotNull File file) {
+        Path root = location.getAbsoluteFile().toPath().normalize();
+        Path path = file.getAbsoluteFile().toPath().normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalStateException(
+                    String.format("File '%s' is outside of local repository '%s'.", file, location));
+        }
+        return root.relativize(path).toString().replace(File.separator, LOCATION_BASE_DELIMITER);
+    }
+
+    @NotNull
+    private static File writeIndex(@NotNull File location, @NotNull Set<String> paths) throws IOException {
+        File indexFile = new File(location, INDEX_FILE_NAME);
+        List<String> lines = new ArrayList<>();
+        if (indexFile.isFile()) {
+            for (String line : Files.readAllLines(indexFile.toPath(), StandardCharsets.UTF_8)) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith(COMMENT_PREFIX) && !paths.contains(line)) {
+                    lines.add(line);
+                }
+            }
+        }
+        lines.addAll(paths);
+        Collections.sort(lines);
+        Files.write(indexFile.toPath(), lines, StandardCharsets.UTF_8);
+        return indexFile;
+    }
+
+    private static long millis(long from, long to) {
+        return TimeUnit.NANOSECONDS.toMillis(to - from);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.agent;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.maven.resolver.api.util.IntegrityIssue;
+import team.idealstate.sugar.maven.resolver.api.util.IntegrityScanner;
+import team.idealstate.sugar.maven.resolver.spi.MavenResolverLoader;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public abstract class Verify {
+
+    private static final String OPTION_LOADER = "--loader";
+    private static final String OPTION_THREADS = "--threads";
+    private static final String OPTION_DEEP = "--deep";
+    private static final String OPTION_REPAIR = "--repair";
+    private static final String USAGE = "Usage: java -cp sugar.jar " + Verify.class.getName()
+            + " [" + OPTION_LOADER + " <name>] [" + OPTION_THREADS + " <count>] [" + OPTION_DEEP + "] ["
+            + OPTION_REPAIR + "] <config.xml|repository>";
+
+    public static void main(String[] arguments) {
+        int status;
+        try {
+            status = run(arguments);
+        } catch (IllegalArgumentException e) {
+            Log.error(e.getMessage());
+            Log.error(USAGE);
+            status = 2;
+        } catch (Throwable e) {
+            Log.error(e);
+            status = 1;
+        }
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    public static int run(@NotNull String... arguments) {
+        Validation.notNull(arguments, "Arguments must not be null.");
+        String loaderName = Prefetch.DEFAULT_LOADER;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean deep = false;
+        boolean repair = false;
+        String target = null;
+        for (int i = 0; i < arguments.length; i++) {
+            String argument = arguments[i];
+            if (OPTION_LOADER.equals(argument) || OPTION_THREADS.equals(argument)) {
+                if (i + 1 >= arguments.length) {
+                    throw new IllegalArgumentException(String.format("Missing value for option '%s'.", argument));
+                }
+                String value = arguments[++i];
+                if (OPTION_LOADER.equals(argument)) {
+                    loaderName = value;
+                } else {
+                    try {
+                        threads = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException(String.format("Invalid thread count '%s'.", value));
+                    }
+                    if (threads <= 0) {
+                        throw new IllegalArgumentException("Thread count must be greater than 0.");
+                    }
+                }
+            } else if (OPTION_DEEP.equals(argument)) {
+                deep = true;
+            } else if (OPTION_REPAIR.equals(argument)) {
+                repair = true;
+            } else if (argument.startsWith("--")) {
+                throw new IllegalArgumentException(String.format("Unknown option '%s'.", argument));
+            } else if (target == null) {
+                target = argument;
+            } else {
+                throw new IllegalArgumentException(String.format("Unexpected argument '%s'.", argument));
+            }
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Configuration file or repository directory is required.");
+        }
+        File file = new File(target);
+        File repository;
+        if (file.isDirectory()) {
+            repository = file;
+        } else if (file.isFile()) {
+            repository = MavenResolverLoader.instance(loaderName, Verify.class.getClassLoader())
+                    .load(file, Verify.class.getClassLoader())
+                    .getLocalRepository()
+                    .getLocation();
+        } else {
+            throw new IllegalArgumentException(String.format("'%s' does not exist.", file));
+        }
+
+        long startedAt = System.nanoTime();
+        List<IntegrityIssue> issues = IntegrityScanner.scan(repository, threads, deep);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        int repaired = 0;
+        for (IntegrityIssue issue : issues) {
+            Log.warn(String.format("Corrupt '%s': %s", issue.getFile(), issue.getReason()));
+            if (repair && IntegrityScanner.repair(issue)) {
+                repaired++;
+            }
+        }
+        Log.info(String.format(
+                "Scanned '%s' with %d threads in %d ms: %d issues, %d removed for re-download.",
+                repository, threads, elapsed, issues.size(), repaired));
+        return issues.size() == repaired ? 0 : 1;
+    }
+}
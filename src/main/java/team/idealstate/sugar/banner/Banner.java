@@ -62,6 +62,9 @@ public abstract class Banner {
         } catch (IllegalArgumentException e) {
             throw new BannerException(e);
         }
+        if (!file.isFile()) {
+            return Collections.emptyList();
+        }
         try (JarFile jar = new JarFile(file)) {
             JarEntry entry = jar.getJarEntry(FILE_NAME);
             if (entry == null || entry.isDirectory()) {
@@ -28,6 +28,8 @@ import java.util.Enumeration;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import team.idealstate.sugar.bundled.exception.BundledException;
+import team.idealstate.sugar.jfr.BundledReleaseEvent;
+import team.idealstate.sugar.jfr.Jfr;
 import team.idealstate.sugar.logging.Log;
 import team.idealstate.sugar.validate.Validation;
 import team.idealstate.sugar.validate.annotation.NotNull;
@@ -73,6 +75,10 @@ public abstract class Bundled {
         } catch (URISyntaxException e) {
             throw new BundledException(e);
         }
+        BundledReleaseEvent event = Jfr.bundledRelease();
+        event.begin();
+        int released = 0;
+        long releasedBytes = 0L;
         try (JarFile jar = new JarFile(file)) {
             Enumeration<JarEntry> entries = jar.entries();
             if (entries.hasMoreElements()) {
@@ -107,11 +113,13 @@ public abstract class Bundled {
                                             do {
                                                 output.write(buffer, 0, read);
                                                 output.flush();
+                                                releasedBytes += read;
                                                 read = input.read(buffer);
                                             } while (read != -1);
                                         }
                                     }
                                 }
+                                released++;
                             }
                         }
                     }
@@ -119,6 +127,15 @@ public abstract class Bundled {
             }
         } catch (IOException e) {
             throw new BundledException(e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setHolder(holder.getName());
+                event.setPath(normalizedPath);
+                event.setEntries(released);
+                event.setBytes(releasedBytes);
+                event.commit();
+            }
         }
         Log.debug("Release bundled done.");
     }
@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.jfr;
+
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public abstract class Jfr {
+
+    public static boolean isAvailable() {
+        return false;
+    }
+
+    @NotNull
+    public static DownloadEvent download() {
+        return NoopEvent.INSTANCE;
+    }
+
+    @NotNull
+    public static ParseEvent pomParse() {
+        return NoopEvent.INSTANCE;
+    }
+
+    @NotNull
+    public static ParseEvent metadataParse() {
+        return NoopEvent.INSTANCE;
+    }
+
+    @NotNull
+    public static BundledReleaseEvent bundledRelease() {
+        return NoopEvent.INSTANCE;
+    }
+
+    @NotNull
+    public static ClasspathAppendEvent classpathAppend() {
+        return NoopEvent.INSTANCE;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.jfr;
+
+final class NoopEvent implements DownloadEvent, ParseEvent, BundledReleaseEvent, ClasspathAppendEvent {
+
+    static final NoopEvent INSTANCE = new NoopEvent();
+
+    private NoopEvent() {}
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void begin() {}
+
+    @Override
+    public void end() {}
+
+    @Override
+    public boolean shouldCommit() {
+        return false;
+    }
+
+    @Override
+    public void commit() {}
+
+    @Override
+    public void setRepository(String repository) {}
+
+    @Override
+    public void setCoordinates(String coordinates) {}
+
+    @Override
+    public void setLocation(String location) {}
+
+    @Override
+    public void setBytes(long bytes) {}
+
+    @Override
+    public void setAttempts(int attempts) {}
+
+    @Override
+    public void setSucceeded(boolean succeeded) {}
+
+    @Override
+    public void setEntries(int entries) {}
+
+    @Override
+    public void setHolder(String holder) {}
+
+    @Override
+    public void setPath(String path) {}
+
+    @Override
+    public void setFile(String file) {}
+}
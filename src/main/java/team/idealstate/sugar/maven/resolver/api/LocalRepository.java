@@ -17,10 +17,21 @@
 package team.idealstate.sugar.maven.resolver.api;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.List;
 import team.idealstate.sugar.validate.annotation.NotNull;
 
 public interface LocalRepository extends Repository {
 
     @NotNull
     File getLocation();
+
+    @NotNull
+    default List<File> getOverlays() {
+        return Collections.emptyList();
+    }
+
+    default long getMaxSize() {
+        return 0L;
+    }
 }
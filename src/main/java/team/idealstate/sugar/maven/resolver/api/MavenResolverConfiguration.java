@@ -21,9 +21,25 @@ import team.idealstate.sugar.validate.annotation.NotNull;
 
 public interface MavenResolverConfiguration {
 
+    int DEFAULT_CACHE_SIZE = 1024;
+    int DEFAULT_DOWNLOAD_THREADS = 4;
+
     @NotNull
     LocalRepository getLocalRepository();
 
     @NotNull
     List<RemoteRepository> getRemoteRepositories();
+
+    default int getCacheSize() {
+        return DEFAULT_CACHE_SIZE;
+    }
+
+    default int getDownloadThreads() {
+        return DEFAULT_DOWNLOAD_THREADS;
+    }
+
+    @NotNull
+    default ResolutionFailureMode getFailureMode() {
+        return ResolutionFailureMode.DEFAULT;
+    }
 }
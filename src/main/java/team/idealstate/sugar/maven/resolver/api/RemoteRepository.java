@@ -16,4 +16,21 @@
 
 package team.idealstate.sugar.maven.resolver.api;
 
-public interface RemoteRepository extends Repository {}
+import java.net.URI;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+public interface RemoteRepository extends Repository {
+
+    default int getMaxConnections() {
+        return 0;
+    }
+
+    default long getBandwidth() {
+        return 0L;
+    }
+
+    @Nullable
+    default URI getIndex() {
+        return null;
+    }
+}
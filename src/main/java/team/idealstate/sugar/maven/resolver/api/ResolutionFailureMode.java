@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.NonNull;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+@Getter
+public enum ResolutionFailureMode {
+    FAIL_FAST("fail-fast"),
+    AGGREGATE("aggregate"),
+    PARTIAL("partial");
+
+    public static final ResolutionFailureMode DEFAULT = FAIL_FAST;
+
+    @NonNull
+    private final String actualName;
+
+    ResolutionFailureMode(@NotNull String actualName) {
+        Validation.notNullOrBlank(actualName, "Actual name must not be null or blank.");
+        this.actualName = actualName;
+    }
+
+    public boolean is(@NotNull String actualName) {
+        Validation.notNullOrBlank(actualName, "Actual name must not be null or blank.");
+        return getActualName().equals(actualName);
+    }
+
+    @NotNull
+    public static ResolutionFailureMode of(@NotNull String actualName) {
+        Validation.notNullOrBlank(actualName, "Actual name must not be null or blank.");
+        return Arrays.stream(ResolutionFailureMode.values())
+                .filter(s -> s.is(actualName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Invalid resolution failure mode: " + actualName));
+    }
+}
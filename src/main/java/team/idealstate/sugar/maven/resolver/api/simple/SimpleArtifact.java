@@ -25,19 +25,37 @@ import team.idealstate.sugar.validate.annotation.NotNull;
 class SimpleArtifact implements Artifact {
 
     @NonNull
-    private final String groupId;
+    private final SimpleCoordinate coordinate;
 
-    @NonNull
-    private final String artifactId;
+    @NotNull
+    @Override
+    public String getGroupId() {
+        return coordinate.getGroupId();
+    }
 
-    @NonNull
-    private final String extension;
+    @NotNull
+    @Override
+    public String getArtifactId() {
+        return coordinate.getArtifactId();
+    }
 
-    @NonNull
-    private final String classifier;
+    @NotNull
+    @Override
+    public String getExtension() {
+        return coordinate.getExtension();
+    }
 
-    @NonNull
-    private final String version;
+    @NotNull
+    @Override
+    public String getClassifier() {
+        return coordinate.getClassifier();
+    }
+
+    @NotNull
+    @Override
+    public String getVersion() {
+        return coordinate.getVersion();
+    }
 
     @Override
     public boolean isResolved() {
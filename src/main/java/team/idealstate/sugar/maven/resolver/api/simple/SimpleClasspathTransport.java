@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import team.idealstate.sugar.maven.resolver.api.Repository;
+import team.idealstate.sugar.maven.resolver.spi.RepositoryTransport;
+import team.idealstate.sugar.maven.resolver.spi.TransportRequest;
+import team.idealstate.sugar.maven.resolver.spi.TransportResponse;
+import team.idealstate.sugar.maven.resolver.spi.TransportStatus;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class SimpleClasspathTransport implements RepositoryTransport {
+
+    private static final String LOCATION_BASE_DELIMITER = "/";
+
+    @Override
+    public boolean isSupported(@NotNull Repository repository, @NotNull URI location) {
+        String scheme = location.getScheme();
+        return "classpath".equals(scheme) || "jar".equals(scheme);
+    }
+
+    @Override
+    public boolean exists(@NotNull Repository repository, @NotNull URI location) throws IOException {
+        if ("classpath".equals(location.getScheme())) {
+            return getClasspathResource(location) != null;
+        }
+        try (InputStream ignored = location.toURL().openStream()) {
+            return true;
+        } catch (FileNotFoundException e) {
+            return false;
+        }
+    }
+
+    @NotNull
+    @Override
+    public TransportResponse fetch(
+            @NotNull Repository repository, @NotNull URI location, @NotNull TransportRequest request)
+            throws IOException {
+        URL resource = "classpath".equals(location.getScheme()) ? getClasspathResource(location) : location.toURL();
+        if (resource == null) {
+            return TransportResponse.notFound();
+        }
+        InputStream body;
+        try {
+            body = resource.openStream();
+        } catch (FileNotFoundException e) {
+            return TransportResponse.notFound();
+        }
+        long offset = Math.max(0L, request.getOffset());
+        try {
+            SimpleTransports.skipFully(body, offset);
+        } catch (IOException e) {
+            body.close();
+            throw e;
+        }
+        return new TransportResponse(
+                offset > 0 ? TransportStatus.PARTIAL : TransportStatus.OK, body, -1L, null, null, 0L, null, null);
+    }
+
+    @Nullable
+    private static URL getClasspathResource(@NotNull URI location) {
+        String name = location.getSchemeSpecificPart();
+        while (name.startsWith(LOCATION_BASE_DELIMITER)) {
+            name = name.substring(LOCATION_BASE_DELIMITER.length());
+        }
+        ClassLoader classLoader = SimpleClasspathTransport.class.getClassLoader();
+        return classLoader == null ? ClassLoader.getSystemResource(name) : classLoader.getResource(name);
+    }
+}
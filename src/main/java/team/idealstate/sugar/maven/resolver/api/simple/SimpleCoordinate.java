@@ -0,0 +1,178 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class SimpleCoordinate {
+
+    private static final String DELIMITER = ":";
+    private static final Map<String, WeakReference<String>> STRINGS = new WeakHashMap<>();
+    private static final Map<SimpleCoordinate, WeakReference<SimpleCoordinate>> COORDINATES = new WeakHashMap<>();
+
+    @NotNull
+    public static SimpleCoordinate of(
+            @NotNull String groupId,
+            @NotNull String artifactId,
+            @NotNull String extension,
+            @NotNull String classifier,
+            @NotNull String version) {
+        Validation.notNull(groupId, "Group id must not be null.");
+        Validation.notNull(artifactId, "Artifact id must not be null.");
+        Validation.notNull(extension, "Extension must not be null.");
+        Validation.notNull(classifier, "Classifier must not be null.");
+        Validation.notNull(version, "Version must not be null.");
+        SimpleCoordinate coordinate = new SimpleCoordinate(groupId, artifactId, extension, classifier, version);
+        synchronized (COORDINATES) {
+            WeakReference<SimpleCoordinate> reference = COORDINATES.get(coordinate);
+            SimpleCoordinate interned = reference == null ? null : reference.get();
+            if (interned != null) {
+                return interned;
+            }
+            interned = new SimpleCoordinate(
+                    intern(groupId), intern(artifactId), intern(extension), intern(classifier), intern(version));
+            COORDINATES.put(interned, new WeakReference<>(interned));
+            return interned;
+        }
+    }
+
+    @NotNull
+    private static String intern(@NotNull String string) {
+        WeakReference<String> reference = STRINGS.get(string);
+        String interned = reference == null ? null : reference.get();
+        if (interned == null) {
+            interned = string;
+            STRINGS.put(interned, new WeakReference<>(interned));
+        }
+        return interned;
+    }
+
+    private final String groupId;
+    private final String artifactId;
+    private final String extension;
+    private final String classifier;
+    private final String version;
+    private final int hash;
+    private SimpleCoordinate artifactKey;
+
+    private SimpleCoordinate(
+            @NotNull String groupId,
+            @NotNull String artifactId,
+            @NotNull String extension,
+            @NotNull String classifier,
+            @NotNull String version) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.extension = extension;
+        this.classifier = classifier;
+        this.version = version;
+        int hash = groupId.hashCode();
+        hash = 31 * hash + artifactId.hashCode();
+        hash = 31 * hash + extension.hashCode();
+        hash = 31 * hash + classifier.hashCode();
+        this.hash = 31 * hash + version.hashCode();
+    }
+
+    @NotNull
+    public String getGroupId() {
+        return groupId;
+    }
+
+    @NotNull
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    @NotNull
+    public String getExtension() {
+        return extension;
+    }
+
+    @NotNull
+    public String getClassifier() {
+        return classifier;
+    }
+
+    @NotNull
+    public String getVersion() {
+        return version;
+    }
+
+    @NotNull
+    public SimpleCoordinate withVersion(@NotNull String version) {
+        Validation.notNull(version, "Version must not be null.");
+        if (this.version.equals(version)) {
+            return this;
+        }
+        return of(groupId, artifactId, extension, classifier, version);
+    }
+
+    @NotNull
+    public SimpleCoordinate getArtifactKey() {
+        SimpleCoordinate artifactKey = this.artifactKey;
+        if (artifactKey == null) {
+            artifactKey = version.isEmpty() ? this : withVersion("");
+            this.artifactKey = artifactKey;
+        }
+        return artifactKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SimpleCoordinate)) {
+            return false;
+        }
+        SimpleCoordinate that = (SimpleCoordinate) o;
+        return hash == that.hash
+                && groupId.equals(that.groupId)
+                && artifactId.equals(that.artifactId)
+                && extension.equals(that.extension)
+                && classifier.equals(that.classifier)
+                && version.equals(that.version);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(groupId.length()
+                        + artifactId.length()
+                        + extension.length()
+                        + classifier.length()
+                        + version.length()
+                        + 4)
+                .append(groupId)
+                .append(DELIMITER)
+                .append(artifactId)
+                .append(DELIMITER)
+                .append(extension);
+        if (!classifier.isEmpty()) {
+            builder.append(DELIMITER).append(classifier);
+        }
+        return builder.append(DELIMITER).append(version).toString();
+    }
+}
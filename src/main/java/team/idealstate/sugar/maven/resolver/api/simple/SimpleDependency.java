@@ -26,22 +26,55 @@ import team.idealstate.sugar.validate.annotation.NotNull;
 class SimpleDependency implements Dependency {
 
     @NonNull
-    private final String groupId;
+    private final SimpleCoordinate coordinate;
 
     @NonNull
-    private final String artifactId;
+    private final DependencyScope scope;
 
-    @NonNull
-    private final String extension;
+    public SimpleDependency(
+            @NonNull String groupId,
+            @NonNull String artifactId,
+            @NonNull String extension,
+            @NonNull String classifier,
+            @NonNull String version,
+            @NonNull DependencyScope scope) {
+        this(SimpleCoordinate.of(groupId, artifactId, extension, classifier, version), scope);
+    }
 
-    @NonNull
-    private final String classifier;
+    public SimpleDependency(@NonNull SimpleCoordinate coordinate, @NonNull DependencyScope scope) {
+        this.coordinate = coordinate;
+        this.scope = scope;
+    }
 
-    @NonNull
-    private final String version;
+    @NotNull
+    @Override
+    public String getGroupId() {
+        return coordinate.getGroupId();
+    }
 
-    @NonNull
-    private final DependencyScope scope;
+    @NotNull
+    @Override
+    public String getArtifactId() {
+        return coordinate.getArtifactId();
+    }
+
+    @NotNull
+    @Override
+    public String getExtension() {
+        return coordinate.getExtension();
+    }
+
+    @NotNull
+    @Override
+    public String getClassifier() {
+        return coordinate.getClassifier();
+    }
+
+    @NotNull
+    @Override
+    public String getVersion() {
+        return coordinate.getVersion();
+    }
 
     @Override
     public boolean isResolved() {
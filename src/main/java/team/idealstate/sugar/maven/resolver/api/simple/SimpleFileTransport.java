@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import team.idealstate.sugar.maven.resolver.api.Repository;
+import team.idealstate.sugar.maven.resolver.spi.RepositoryTransport;
+import team.idealstate.sugar.maven.resolver.spi.TransportRequest;
+import team.idealstate.sugar.maven.resolver.spi.TransportResponse;
+import team.idealstate.sugar.maven.resolver.spi.TransportStatus;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class SimpleFileTransport implements RepositoryTransport {
+
+    @Override
+    public boolean isSupported(@NotNull Repository repository, @NotNull URI location) {
+        return "file".equals(location.getScheme());
+    }
+
+    @Override
+    public boolean exists(@NotNull Repository repository, @NotNull URI location) {
+        return new File(location).exists();
+    }
+
+    @NotNull
+    @Override
+    public File getLocalFile(@NotNull Repository repository, @NotNull URI location) {
+        return new File(location);
+    }
+
+    @NotNull
+    @Override
+    public TransportResponse fetch(
+            @NotNull Repository repository, @NotNull URI location, @NotNull TransportRequest request)
+            throws IOException {
+        File file = new File(location);
+        if (!file.isFile()) {
+            return TransportResponse.notFound();
+        }
+        long lastModified = file.lastModified();
+        if (request.getLastModified() > 0 && lastModified <= request.getLastModified()) {
+            return TransportResponse.notModified(null, lastModified);
+        }
+        long length = file.length();
+        long offset = Math.min(Math.max(0L, request.getOffset()), length);
+        InputStream body = Files.newInputStream(file.toPath());
+        try {
+            SimpleTransports.skipFully(body, offset);
+        } catch (IOException e) {
+            body.close();
+            throw e;
+        }
+        return new TransportResponse(
+                offset > 0 ? TransportStatus.PARTIAL : TransportStatus.OK,
+                body,
+                length - offset,
+                null,
+                null,
+                lastModified,
+                null,
+                null);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.util.function.Consumer;
+import team.idealstate.sugar.maven.resolver.api.Repository;
+import team.idealstate.sugar.maven.resolver.spi.RepositoryTransport;
+import team.idealstate.sugar.maven.resolver.spi.TransportRequest;
+import team.idealstate.sugar.maven.resolver.spi.TransportResponse;
+import team.idealstate.sugar.maven.resolver.spi.TransportStatus;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class SimpleHttpTransport implements RepositoryTransport {
+
+    private static final String ACCEPT_ENCODING_COMPRESSED = "gzip, deflate";
+    private static final String ACCEPT_ENCODING_IDENTITY = "identity";
+    private static final int HTTP_PERMANENT_REDIRECT = 308;
+    private static final int HTTP_TEMPORARY_REDIRECT = 307;
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+    private static final int MAX_REDIRECTS = 5;
+
+    @Override
+    public boolean isSupported(@NotNull Repository repository, @NotNull URI location) {
+        String scheme = location.getScheme();
+        return "http".equals(scheme) || "https".equals(scheme);
+    }
+
+    @Override
+    public boolean exists(@NotNull Repository repository, @NotNull URI location) throws IOException {
+        HttpURLConnection connection = open(location, "HEAD", it -> {});
+        try {
+            int responseCode = connection.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_BAD_METHOD
+                    || responseCode == HttpURLConnection.HTTP_NOT_IMPLEMENTED) {
+                connection.disconnect();
+                connection = open(location, "GET", it -> it.setRequestProperty("Range", "bytes=0-0"));
+                responseCode = connection.getResponseCode();
+            }
+            return responseCode == HttpURLConnection.HTTP_OK
+                    || responseCode == HttpURLConnection.HTTP_PARTIAL
+                    || responseCode == HTTP_RANGE_NOT_SATISFIABLE
+                    || responseCode >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @NotNull
+    @Override
+    public TransportResponse fetch(
+            @NotNull Repository repository, @NotNull URI location, @NotNull TransportRequest request)
+            throws IOException {
+        HttpURLConnection connection = open(location, "GET", it -> {
+            it.setRequestProperty(
+                    "Accept-Encoding",
+                    request.isCompressed() ? ACCEPT_ENCODING_COMPRESSED : ACCEPT_ENCODING_IDENTITY);
+            if (request.getEtag() != null) {
+                it.setRequestProperty("If-None-Match", request.getEtag());
+            }
+            if (request.getLastModified() > 0) {
+                it.setIfModifiedSince(request.getLastModified());
+            }
+            if (request.getOffset() > 0) {
+                it.setRequestProperty("Range", "bytes=" + request.getOffset() + "-");
+            }
+        });
+        boolean keep = false;
+        try {
+            int responseCode = connection.getResponseCode();
+            String etag = connection.getHeaderField("ETag");
+            long lastModified = connection.getLastModified();
+            TransportStatus status;
+            switch (responseCode) {
+                case HttpURLConnection.HTTP_OK:
+                    status = TransportStatus.OK;
+                    break;
+                case HttpURLConnection.HTTP_PARTIAL:
+                    status = TransportStatus.PARTIAL;
+                    break;
+                case HttpURLConnection.HTTP_NOT_MODIFIED:
+                    return TransportResponse.notModified(etag, lastModified);
+                case HttpURLConnection.HTTP_NOT_FOUND:
+                case HttpURLConnection.HTTP_GONE:
+                    return TransportResponse.notFound();
+                default:
+                    return TransportResponse.failed("HTTP " + responseCode);
+            }
+            TransportResponse response = new TransportResponse(
+                    status,
+                    connection.getInputStream(),
+                    connection.getContentLengthLong(),
+                    connection.getContentEncoding(),
+                    etag,
+                    lastModified,
+                    null,
+                    connection::disconnect);
+            keep = true;
+            return response;
+        } finally {
+            if (!keep) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    @NotNull
+    private static HttpURLConnection open(
+            @NotNull URI location, @NotNull String method, @NotNull Consumer<HttpURLConnection> configurer)
+            throws IOException {
+        URL url = location.toURL();
+        for (int redirects = 0; ; redirects++) {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            try {
+                connection.setInstanceFollowRedirects(true);
+                connection.setRequestMethod(method);
+                configurer.accept(connection);
+                int responseCode = connection.getResponseCode();
+                String redirect = isRedirect(responseCode) ? connection.getHeaderField("Location") : null;
+                if (redirect == null || redirects >= MAX_REDIRECTS) {
+                    return connection;
+                }
+                url = new URL(url, redirect);
+            } catch (IOException | RuntimeException e) {
+                connection.disconnect();
+                throw e;
+            }
+            connection.disconnect();
+        }
+    }
+
+    private static boolean isRedirect(int responseCode) {
+        switch (responseCode) {
+            case HttpURLConnection.HTTP_MOVED_PERM:
+            case HttpURLConnection.HTTP_MOVED_TEMP:
+            case HttpURLConnection.HTTP_SEE_OTHER:
+            case HTTP_TEMPORARY_REDIRECT:
+            case HTTP_PERMANENT_REDIRECT:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
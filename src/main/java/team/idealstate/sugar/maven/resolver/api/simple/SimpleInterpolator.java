@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class SimpleInterpolator {
+
+    private static final String PLACEHOLDER_PREFIX = "${";
+    private static final String PLACEHOLDER_SUFFIX = "}";
+
+    private final Map<String, String> properties;
+    private final Map<String, Template> templates = new HashMap<>();
+    private final Map<String, String> resolved = new HashMap<>();
+    private final Set<String> resolving = new LinkedHashSet<>();
+
+    public SimpleInterpolator(@NotNull Map<String, String> properties) {
+        Validation.notNull(properties, "Properties must not be null.");
+        this.properties = properties;
+    }
+
+    public static boolean isTemplate(@Nullable String value) {
+        return value != null && value.contains(PLACEHOLDER_PREFIX);
+    }
+
+    @NotNull
+    public String interpolate(@NotNull String value) {
+        Validation.notNull(value, "Value must not be null.");
+        if (!isTemplate(value)) {
+            return value;
+        }
+        Template template = templates.get(value);
+        if (template == null) {
+            template = Template.compile(value);
+            templates.put(value, template);
+        }
+        return template.render(this);
+    }
+
+    @Nullable
+    public String property(@NotNull String key) {
+        Validation.notNull(key, "Key must not be null.");
+        String value = resolved.get(key);
+        if (value != null) {
+            return value;
+        }
+        String raw = properties.get(key);
+        if (raw == null) {
+            return null;
+        }
+        if (!resolving.add(key)) {
+            List<String> chain = new ArrayList<>(resolving);
+            chain.add(key);
+            throw new MavenResolutionException(
+                    String.format("Cyclic property reference: %s", String.join(" -> ", chain)));
+        }
+        try {
+            value = interpolate(raw);
+        } finally {
+            resolving.remove(key);
+        }
+        resolved.put(key, value);
+        return value;
+    }
+
+    private static final class Template {
+
+        private final String[] literals;
+        private final String[] keys;
+        private final int length;
+
+        private Template(@NotNull String[] literals, @NotNull String[] keys, int length) {
+            this.literals = literals;
+            this.keys = keys;
+            this.length = length;
+        }
+
+        @NotNull
+        static Template compile(@NotNull String value) {
+            List<String> literals = new ArrayList<>(2);
+            List<String> keys = new ArrayList<>(1);
+            int offset = 0;
+            int start;
+            while ((start = value.indexOf(PLACEHOLDER_PREFIX, offset)) >= 0) {
+                int end = value.indexOf(PLACEHOLDER_SUFFIX, start + PLACEHOLDER_PREFIX.length());
+                if (end < 0) {
+                    break;
+                }
+                literals.add(value.substring(offset, start));
+                keys.add(value.substring(start + PLACEHOLDER_PREFIX.length(), end));
+                offset = end + PLACEHOLDER_SUFFIX.length();
+            }
+            literals.add(value.substring(offset));
+            return new Template(
+                    literals.toArray(new String[0]),
+                    keys.isEmpty() ? new String[0] : keys.toArray(new String[0]),
+                    value.length());
+        }
+
+        @NotNull
+        String render(@NotNull SimpleInterpolator interpolator) {
+            if (keys.length == 0) {
+                return literals[0];
+            }
+            StringBuilder builder = new StringBuilder(length + 16).append(literals[0]);
+            for (int i = 0; i < keys.length; i++) {
+                String key = keys[i];
+                String value = interpolator.property(key);
+                if (value == null) {
+                    builder.append(PLACEHOLDER_PREFIX).append(key).append(PLACEHOLDER_SUFFIX);
+                } else {
+                    builder.append(value);
+                }
+                builder.append(literals[i + 1]);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package team.idealstate.sugar.maven.resolver.api.simple;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
@@ -31,15 +33,28 @@ import team.idealstate.sugar.validate.annotation.NotNull;
 final class SimpleLocalRepository extends AbstractSimpleRepository implements LocalRepository {
 
     private final File location;
+    private final List<File> overlays;
+    private final long maxSize;
 
     public SimpleLocalRepository(
             @NonNull String name, @NonNull File location, @NonNull List<RepositoryPolicy> policies) {
+        this(name, location, policies, Collections.emptyList(), 0L);
+    }
+
+    public SimpleLocalRepository(
+            @NonNull String name,
+            @NonNull File location,
+            @NonNull List<RepositoryPolicy> policies,
+            @NonNull List<File> overlays,
+            long maxSize) {
         super(
                 name,
                 Validation.requireNotNull(location, "Location must not be null.")
                         .toURI(),
                 policies);
         this.location = location;
+        this.overlays = overlays.isEmpty() ? Collections.emptyList() : new ArrayList<>(overlays);
+        this.maxSize = maxSize;
     }
 
     @NotNull
@@ -47,4 +62,15 @@ final class SimpleLocalRepository extends AbstractSimpleRepository implements Lo
     public File getLocation() {
         return location;
     }
+
+    @NotNull
+    @Override
+    public List<File> getOverlays() {
+        return overlays.isEmpty() ? Collections.emptyList() : new ArrayList<>(overlays);
+    }
+
+    @Override
+    public long getMaxSize() {
+        return maxSize;
+    }
 }
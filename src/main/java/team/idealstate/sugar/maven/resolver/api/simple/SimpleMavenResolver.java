@@ -17,45 +17,77 @@
 package team.idealstate.sugar.maven.resolver.api.simple;
 
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.net.HttpURLConnection;
+import java.io.PushbackInputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.ToString;
+import team.idealstate.sugar.io.CountingInputStream;
+import team.idealstate.sugar.io.TeeInputStream;
+import team.idealstate.sugar.jfr.DownloadEvent;
+import team.idealstate.sugar.jfr.Jfr;
 import team.idealstate.sugar.logging.Log;
 import team.idealstate.sugar.maven.resolver.api.Dependency;
 import team.idealstate.sugar.maven.resolver.api.DependencyScope;
 import team.idealstate.sugar.maven.resolver.api.LocalRepository;
-import team.idealstate.sugar.maven.resolver.api.MavenResolver;
+import team.idealstate.sugar.maven.resolver.api.MavenGraphResolver;
+import team.idealstate.sugar.maven.resolver.api.MavenResolverConfiguration;
 import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
 import team.idealstate.sugar.maven.resolver.api.Repository;
 import team.idealstate.sugar.maven.resolver.api.RepositoryPolicy;
+import team.idealstate.sugar.maven.resolver.api.ResolutionFailureMode;
 import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
 import team.idealstate.sugar.maven.resolver.api.ResolvedDependency;
 import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
-import team.idealstate.sugar.string.StringUtils;
+import team.idealstate.sugar.maven.resolver.api.util.IntegrityScanner;
+import team.idealstate.sugar.maven.resolver.spi.RepositoryTransport;
+import team.idealstate.sugar.maven.resolver.spi.TransportRequest;
+import team.idealstate.sugar.maven.resolver.spi.TransportResponse;
+import team.idealstate.sugar.maven.resolver.spi.TransportStatus;
 import team.idealstate.sugar.validate.Validation;
 import team.idealstate.sugar.validate.annotation.NotNull;
 import team.idealstate.sugar.validate.annotation.Nullable;
 
 @Data
-final class SimpleMavenResolver implements MavenResolver {
+final class SimpleMavenResolver implements MavenGraphResolver {
 
     private static final Set<DependencyScope> DEFAULT_RESOLVING_SCOPES =
             Collections.unmodifiableSet(new HashSet<>(Arrays.asList(DependencyScope.COMPILE, DependencyScope.RUNTIME)));
@@ -64,6 +96,12 @@ final class SimpleMavenResolver implements MavenResolver {
     private static final String LOCATION_EXTENSION_DELIMITER = ".";
     private static final int DEFAULT_BUFFER_SIZE = 1024 * 4;
     private static final String METADATA_FILE_NAME = "maven-metadata.xml";
+    private static final String METADATA_FILE_PREFIX = "maven-metadata-";
+    private static final String METADATA_FILE_SUFFIX = ".xml";
+    private static final String POM_FILE_SUFFIX = ".pom";
+    private static final long METADATA_UPDATE_INTERVAL_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final String INDEX_GZIP_SUFFIX = ".gz";
+    private static final long DOWNLOAD_THREAD_KEEP_ALIVE_SECONDS = 30L;
 
     @NonNull
     private final LocalRepository localRepository;
@@ -74,6 +112,136 @@ final class SimpleMavenResolver implements MavenResolver {
     @NonNull
     private final SimpleDependencyResolver dependencyResolver;
 
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<String, SimpleVersionListing> versionListings = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final AtomicLong generation = new AtomicLong();
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<File, Long> metadataChecks = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<String, Future<SimpleRepositoryIndex>> indexes = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final SimpleResolutionCache resolutionCache;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final SimpleResolutionGraph resolutionGraph;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final ThreadPoolExecutor downloadExecutor;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<SimpleCoordinate, Future<SimpleArtifact>> fetching = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final ResolutionFailureMode failureMode;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final List<RepositoryTransport> transports;
+
+    public SimpleMavenResolver(
+            @NonNull LocalRepository localRepository,
+            @NonNull List<RemoteRepository> remoteRepositories,
+            @NonNull SimpleDependencyResolver dependencyResolver) {
+        this(
+                localRepository,
+                remoteRepositories,
+                dependencyResolver,
+                MavenResolverConfiguration.DEFAULT_CACHE_SIZE,
+                MavenResolverConfiguration.DEFAULT_DOWNLOAD_THREADS);
+    }
+
+    public SimpleMavenResolver(
+            @NonNull LocalRepository localRepository,
+            @NonNull List<RemoteRepository> remoteRepositories,
+            @NonNull SimpleDependencyResolver dependencyResolver,
+            int cacheSize,
+            int downloadThreads) {
+        this(
+                localRepository,
+                remoteRepositories,
+                dependencyResolver,
+                cacheSize,
+                downloadThreads,
+                ResolutionFailureMode.DEFAULT);
+    }
+
+    public SimpleMavenResolver(
+            @NonNull LocalRepository localRepository,
+            @NonNull List<RemoteRepository> remoteRepositories,
+            @NonNull SimpleDependencyResolver dependencyResolver,
+            int cacheSize,
+            int downloadThreads,
+            @NonNull ResolutionFailureMode failureMode) {
+        this(
+                localRepository,
+                remoteRepositories,
+                dependencyResolver,
+                cacheSize,
+                downloadThreads,
+                failureMode,
+                SimpleMavenResolver.class.getClassLoader());
+    }
+
+    public SimpleMavenResolver(
+            @NonNull LocalRepository localRepository,
+            @NonNull List<RemoteRepository> remoteRepositories,
+            @NonNull SimpleDependencyResolver dependencyResolver,
+            int cacheSize,
+            int downloadThreads,
+            @NonNull ResolutionFailureMode failureMode,
+            @Nullable ClassLoader classLoader) {
+        this.localRepository = localRepository;
+        this.remoteRepositories = remoteRepositories;
+        this.dependencyResolver = dependencyResolver;
+        this.resolutionCache = new SimpleResolutionCache(cacheSize);
+        this.resolutionGraph = new SimpleResolutionGraph(localRepository, remoteRepositories);
+        this.downloadExecutor = downloadThreads > 0 ? createDownloadExecutor(downloadThreads) : null;
+        this.failureMode = failureMode;
+        this.transports = SimpleTransports.of(classLoader);
+    }
+
+    @NotNull
+    private static ThreadPoolExecutor createDownloadExecutor(int downloadThreads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                downloadThreads,
+                downloadThreads,
+                DOWNLOAD_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sugar-resolver-download-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     public @NotNull List<RemoteRepository> getRemoteRepositories() {
         if (remoteRepositories.isEmpty()) {
             return Collections.emptyList();
@@ -81,26 +249,92 @@ final class SimpleMavenResolver implements MavenResolver {
         return new ArrayList<>(remoteRepositories);
     }
 
-    private boolean isExists(@NotNull Repository repository, @NotNull Dependency dependency, @NotNull URI location)
+    private boolean isExists(
+            @NotNull Repository repository,
+            @NotNull Dependency dependency,
+            @NotNull URI location,
+            @NotNull String subpath)
             throws Throwable {
-        if (repository instanceof LocalRepository) {
-            return new File(location).exists();
-        } else if (repository instanceof RemoteRepository) {
-            String scheme = location.getScheme();
-            if ("file".equals(scheme)) {
-                return new File(location).exists();
-            }
-            if ("http".equals(scheme) || "https".equals(scheme)) {
-                HttpURLConnection connection =
-                        (HttpURLConnection) location.toURL().openConnection();
-                try {
-                    return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
-                } finally {
-                    connection.disconnect();
+        SimpleRepositoryIndex index = indexOf(repository);
+        if (index != null && index.contains(subpath)) {
+            return true;
+        }
+        RepositoryTransport transport = SimpleTransports.of(transports, repository, location);
+        SimpleTransferLimiter limiter = repository instanceof RemoteRepository
+                ? SimpleTransferLimiter.of((RemoteRepository) repository)
+                : null;
+        if (limiter == null) {
+            return transport.exists(repository, location);
+        }
+        limiter.acquireConnection(false);
+        try {
+            return transport.exists(repository, location);
+        } finally {
+            limiter.releaseConnection(false);
+        }
+    }
+
+    @Nullable
+    private SimpleRepositoryIndex indexOf(@NotNull Repository repository) {
+        if (!(repository instanceof RemoteRepository) || ((RemoteRepository) repository).getIndex() == null) {
+            return null;
+        }
+        Future<SimpleRepositoryIndex> loading = indexes.get(repository.getName());
+        if (loading == null) {
+            FutureTask<SimpleRepositoryIndex> task = new FutureTask<>(() -> loadIndex((RemoteRepository) repository));
+            loading = indexes.putIfAbsent(repository.getName(), task);
+            if (loading == null) {
+                loading = task;
+                task.run();
+            }
+        }
+        SimpleRepositoryIndex index;
+        try {
+            index = loading.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MavenResolutionException(e);
+        } catch (ExecutionException e) {
+            throw new MavenResolutionException(e.getCause());
+        }
+        return index == SimpleRepositoryIndex.UNAVAILABLE ? null : index;
+    }
+
+    @NotNull
+    private SimpleRepositoryIndex loadIndex(@NotNull RemoteRepository repository) {
+        URI index = repository.getIndex();
+        try {
+            URI location = index.isAbsolute() ? index : makeLocation(repository.getUrl(), index.toString());
+            RepositoryTransport transport = SimpleTransports.of(transports, repository, location);
+            SimpleTransferLimiter limiter = SimpleTransferLimiter.of(repository);
+            if (limiter != null) {
+                limiter.acquireConnection(false);
+            }
+            try (TransportResponse response =
+                    transport.fetch(repository, location, new TransportRequest(true, null, 0L, 0L))) {
+                InputStream body = response.getBody();
+                if (response.getStatus() != TransportStatus.OK || body == null) {
+                    String message = response.getMessage();
+                    throw new IOException(message == null ? String.valueOf(response.getStatus()) : message);
+                }
+                InputStream input = decodeContent(body, response.getContentEncoding());
+                if (location.toString().endsWith(INDEX_GZIP_SUFFIX)) {
+                    input = new GZIPInputStream(input);
+                }
+                SimpleRepositoryIndex loaded = SimpleRepositoryIndex.parse(input);
+                Log.info(String.format(
+                        "Loaded index of repository '%s' (%d entries).", repository.getName(), loaded.size()));
+                return loaded;
+            } finally {
+                if (limiter != null) {
+                    limiter.releaseConnection(false);
                 }
             }
+        } catch (Throwable e) {
+            Log.warn(String.format(
+                    "Failed to load index of repository '%s': %s", repository.getName(), e.getMessage()));
+            return SimpleRepositoryIndex.UNAVAILABLE;
         }
-        throw new UnsupportedOperationException();
     }
 
     @NotNull
@@ -113,6 +347,14 @@ final class SimpleMavenResolver implements MavenResolver {
                 + LOCATION_BASE_DELIMITER;
     }
 
+    @NotNull
+    private String makeArtifactParentPath(@NotNull Dependency dependency) {
+        return dependency.getGroupId().replace(".", LOCATION_BASE_DELIMITER)
+                + LOCATION_BASE_DELIMITER
+                + dependency.getArtifactId()
+                + LOCATION_BASE_DELIMITER;
+    }
+
     @NotNull
     private String makePomFilePath(@NotNull ResolvedDependency dependency, boolean actual) {
         String artifactId = dependency.getArtifactId();
@@ -148,6 +390,13 @@ final class SimpleMavenResolver implements MavenResolver {
 
     @NotNull
     private URI makeLocation(@NotNull URI url, @NotNull String subpath) throws URISyntaxException {
+        if (url.isOpaque()) {
+            String schemeSpecificPart = url.getSchemeSpecificPart();
+            if (!schemeSpecificPart.endsWith(LOCATION_BASE_DELIMITER)) {
+                schemeSpecificPart += LOCATION_BASE_DELIMITER;
+            }
+            return new URI(url.getScheme(), schemeSpecificPart + subpath, url.getFragment());
+        }
         String path = url.getPath().replace("\\", "/");
         if (!path.endsWith(LOCATION_BASE_DELIMITER)) {
             path += LOCATION_BASE_DELIMITER;
@@ -167,13 +416,7 @@ final class SimpleMavenResolver implements MavenResolver {
         if (!dependency.isResolved()) {
             return dependency;
         }
-        return new SimpleDependency(
-                dependency.getGroupId(),
-                dependency.getArtifactId(),
-                dependency.getVersion(),
-                dependency.getClassifier(),
-                dependency.getExtension(),
-                dependency.getScope());
+        return new SimpleDependency(dependency.getCoordinate(), dependency.getScope());
     }
 
     @NotNull
@@ -187,22 +430,24 @@ final class SimpleMavenResolver implements MavenResolver {
             dependency = preprocess(dependency);
             List<SimpleDependency> dependencies = new ArrayList<>();
             SimpleResolvedDependency resolvedDependency = null;
-            Set<RepositoryPolicy> policies = repository.getPolicies();
-            if (policies.contains(RepositoryPolicy.ALWAYS_UPDATE)
-                    && !policies.contains(RepositoryPolicy.NEVER_UPDATE)) {
+            if (isAlwaysUpdate(repository)) {
                 if (repository instanceof LocalRepository) {
                     return dependency;
                 }
-                File matadataFile = downloadFile(
-                        repository, dependency, destinationDirectory, METADATA_FILE_NAME, METADATA_FILE_NAME);
+                AtomicReference<SimpleMetadata> parsedMetadata = new AtomicReference<>();
+                File matadataFile = downloadMetadata(
+                        repository,
+                        dependency,
+                        destinationDirectory,
+                        makeParentPath(dependency),
+                        input -> parsedMetadata.set(SimpleMetadata.resolve(input)));
                 if (matadataFile != null) {
-                    SimpleMetadata metadata = SimpleMetadata.resolve(Files.newInputStream(matadataFile.toPath()));
+                    SimpleMetadata metadata = parsedMetadata.get();
+                    if (metadata == null) {
+                        metadata = SimpleMetadata.resolve(Files.newInputStream(matadataFile.toPath()));
+                    }
                     resolvedDependency = new SimpleResolvedDependency(
-                            dependency.getGroupId(),
-                            dependency.getArtifactId(),
-                            dependency.getExtension(),
-                            dependency.getClassifier(),
-                            dependency.getVersion(),
+                            dependency.getCoordinate(),
                             dependency.getScope(),
                             metadata.getActualVersion(),
                             metadata.getLastUpdated(),
@@ -212,27 +457,28 @@ final class SimpleMavenResolver implements MavenResolver {
             }
             if (resolvedDependency == null) {
                 resolvedDependency = new SimpleResolvedDependency(
-                        dependency.getGroupId(),
-                        dependency.getArtifactId(),
-                        dependency.getExtension(),
-                        dependency.getClassifier(),
-                        dependency.getVersion(),
+                        dependency.getCoordinate(),
                         dependency.getScope(),
                         dependency.getVersion(),
                         LocalDateTime.MIN,
                         repository,
                         dependencies);
             }
+            AtomicReference<SimplePom> parsedPom = new AtomicReference<>();
             File pomFile = downloadFile(
                     repository,
                     resolvedDependency,
                     destinationDirectory,
                     makePomFilePath(resolvedDependency, true),
-                    makePomFilePath(resolvedDependency, false));
+                    makePomFilePath(resolvedDependency, false),
+                    input -> parsedPom.set(SimplePom.resolve(dependencyResolver, input)));
             if (pomFile == null) {
                 return dependency;
             }
-            SimplePom pom = SimplePom.resolve(dependencyResolver, Files.newInputStream(pomFile.toPath()));
+            SimplePom pom = parsedPom.get();
+            if (pom == null) {
+                pom = SimplePom.resolve(dependencyResolver, Files.newInputStream(pomFile.toPath()));
+            }
             dependencies.addAll(pom.getDependencies());
             return resolvedDependency;
         } catch (Throwable e) {
@@ -243,8 +489,223 @@ final class SimpleMavenResolver implements MavenResolver {
         }
     }
 
+    private static boolean isAlwaysUpdate(@NotNull Repository repository) {
+        Set<RepositoryPolicy> policies = repository.getPolicies();
+        return policies.contains(RepositoryPolicy.ALWAYS_UPDATE) && !policies.contains(RepositoryPolicy.NEVER_UPDATE);
+    }
+
+    private boolean isMetadataValid(
+            @NotNull Repository repository, @NotNull SimpleMetadataStatus status, @Nullable Long checkedGeneration) {
+        if (!status.isUpdated()) {
+            return false;
+        }
+        if (repository.getPolicies().contains(RepositoryPolicy.NEVER_UPDATE)) {
+            return true;
+        }
+        if (isAlwaysUpdate(repository)) {
+            return checkedGeneration != null && checkedGeneration == generation.get();
+        }
+        return System.currentTimeMillis() - status.getLastUpdated() < METADATA_UPDATE_INTERVAL_MILLIS;
+    }
+
+    @Nullable
+    private File downloadMetadata(
+            @NotNull Repository repository,
+            @NotNull SimpleDependency dependency,
+            @NotNull File destinationDirectory,
+            @NotNull String parentPath,
+            @NotNull Consumer<InputStream> parser)
+            throws Throwable {
+        String metadataFileName = METADATA_FILE_PREFIX + repository.getName() + METADATA_FILE_SUFFIX;
+        File metadataFile = new File(destinationDirectory, parentPath + metadataFileName).getAbsoluteFile();
+        SimpleMetadataStatus status = SimpleMetadataStatus.read(metadataFile);
+        if (isMetadataValid(repository, status, metadataChecks.get(metadataFile))) {
+            return metadataFile;
+        }
+        long generation = this.generation.get();
+        File downloadedFile = downloadFile(
+                repository,
+                dependency,
+                destinationDirectory,
+                parentPath,
+                METADATA_FILE_NAME,
+                metadataFileName,
+                parser,
+                status);
+        if (downloadedFile == null) {
+            metadataChecks.remove(metadataFile);
+            return null;
+        }
+        status.setLastUpdated(System.currentTimeMillis());
+        status.write(metadataFile);
+        metadataChecks.put(metadataFile, generation);
+        return downloadedFile;
+    }
+
+    @NotNull
+    private List<SimpleVersion> listLocalVersions(@NotNull SimpleDependency dependency) {
+        String artifactParentPath = makeArtifactParentPath(dependency);
+        Set<SimpleVersion> versions = new HashSet<>();
+        List<File> locations = new ArrayList<>(localRepository.getOverlays());
+        locations.add(0, localRepository.getLocation());
+        for (File location : locations) {
+            File[] children = new File(location, artifactParentPath).listFiles(File::isDirectory);
+            if (children == null) {
+                continue;
+            }
+            for (File child : children) {
+                String version = child.getName();
+                String pomFileName = buildArtifactPath(dependency.getArtifactId(), version, "", "pom");
+                if (new File(child, pomFileName).isFile()) {
+                    versions.add(SimpleVersion.parse(version));
+                }
+            }
+        }
+        if (versions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<SimpleVersion> sortedVersions = new ArrayList<>(versions);
+        Collections.sort(sortedVersions);
+        return sortedVersions;
+    }
+
+    @Nullable
+    private File linkFromOverlays(@NotNull String subpath, @NotNull File destinationFile) throws IOException {
+        for (File overlay : localRepository.getOverlays()) {
+            File overlayFile = new File(overlay, subpath);
+            if (!overlayFile.isFile()) {
+                continue;
+            }
+            File parentFile = destinationFile.getParentFile();
+            if (parentFile != null) {
+                Files.createDirectories(parentFile.toPath());
+            }
+            Files.deleteIfExists(destinationFile.toPath());
+            IntegrityScanner.deleteChecksums(destinationFile);
+            try {
+                Files.createLink(destinationFile.toPath(), overlayFile.toPath());
+                Log.debug(() -> String.format("Linked '%s' from overlay '%s'.", subpath, overlay));
+            } catch (IOException | UnsupportedOperationException | SecurityException e) {
+                Files.copy(overlayFile.toPath(), destinationFile.toPath());
+                Log.debug(() -> String.format("Copied '%s' from overlay '%s'.", subpath, overlay));
+            }
+            return destinationFile;
+        }
+        return null;
+    }
+
+    @NotNull
+    private List<SimpleVersion> listRemoteVersions(
+            @NotNull Repository repository,
+            @NotNull SimpleDependency dependency,
+            @NotNull File destinationDirectory,
+            long generation) {
+        String key = new StringJoiner(getDependencyResolver().getIdDelimiter())
+                .add(repository.getName())
+                .add(dependency.getGroupId())
+                .add(dependency.getArtifactId())
+                .toString();
+        SimpleVersionListing listing = versionListings.get(key);
+        if (listing != null && isListingValid(repository, listing, generation)) {
+            return listing.getVersions();
+        }
+        List<SimpleVersion> versions;
+        SimpleRepositoryIndex index = indexOf(repository);
+        if (index != null) {
+            versions = toVersions(index.getVersions(makeArtifactParentPath(dependency)));
+            versionListings.put(key, new SimpleVersionListing(generation, System.currentTimeMillis(), versions));
+            return versions;
+        }
+        try {
+            AtomicReference<SimpleMetadata> parsedMetadata = new AtomicReference<>();
+            File metadataFile = downloadMetadata(
+                    repository,
+                    dependency,
+                    destinationDirectory,
+                    makeArtifactParentPath(dependency),
+                    input -> parsedMetadata.set(SimpleMetadata.resolve(input)));
+            if (metadataFile == null) {
+                versions = Collections.emptyList();
+            } else {
+                SimpleMetadata metadata = parsedMetadata.get();
+                if (metadata == null) {
+                    metadata = SimpleMetadata.resolve(Files.newInputStream(metadataFile.toPath()));
+                }
+                versions = toVersions(metadata.getVersions());
+            }
+        } catch (Throwable e) {
+            Log.warn(String.format(
+                    "Failed to list versions of '%s' from repository '%s': %s",
+                    dependency, repository.getName(), e.getMessage()));
+            return Collections.emptyList();
+        }
+        versionListings.put(key, new SimpleVersionListing(generation, System.currentTimeMillis(), versions));
+        return versions;
+    }
+
+    private static boolean isListingValid(
+            @NotNull Repository repository, @NotNull SimpleVersionListing listing, long generation) {
+        if (repository.getPolicies().contains(RepositoryPolicy.NEVER_UPDATE)) {
+            return true;
+        }
+        if (isAlwaysUpdate(repository)) {
+            return listing.getGeneration() == generation;
+        }
+        return System.currentTimeMillis() - listing.getListedAt() < METADATA_UPDATE_INTERVAL_MILLIS;
+    }
+
+    @NotNull
+    private static List<SimpleVersion> toVersions(@NotNull List<String> values) {
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<SimpleVersion> versions = new ArrayList<>(values.size());
+        for (String value : values) {
+            versions.add(SimpleVersion.parse(value));
+        }
+        Collections.sort(versions);
+        return Collections.unmodifiableList(versions);
+    }
+
+    @NotNull
+    private SimpleDependency resolveVersionRange(
+            @NotNull File destinationDirectory,
+            @NotNull List<RemoteRepository> remoteRepositories,
+            @NotNull SimpleDependency dependency) {
+        SimpleVersionRange range;
+        try {
+            range = SimpleVersionRange.parse(dependency.getVersion());
+        } catch (IllegalArgumentException e) {
+            throw new MavenResolutionException(
+                    String.format("Invalid version range '%s'. %s", dependency.getVersion(), dependency), e);
+        }
+        long generation = this.generation.get();
+        SimpleVersion selected = range.select(listLocalVersions(dependency));
+        for (Repository remoteRepository : remoteRepositories) {
+            SimpleVersion candidate =
+                    range.select(listRemoteVersions(remoteRepository, dependency, destinationDirectory, generation));
+            if (candidate != null && (selected == null || selected.compareTo(candidate) < 0)) {
+                selected = candidate;
+            }
+        }
+        if (selected == null) {
+            throw new MavenResolutionException(
+                    String.format("Cannot find a version matching '%s'. %s", range, dependency));
+        }
+        return new SimpleDependency(
+                dependency.getCoordinate().withVersion(selected.getValue()), dependency.getScope());
+    }
+
+    @NotNull
+    private String makeCoordinates(@NotNull Dependency dependency) {
+        return new StringJoiner(getDependencyResolver().getIdDelimiter())
+                .add(dependency.getGroupId())
+                .add(dependency.getArtifactId())
+                .add(dependency.getVersion())
+                .toString();
+    }
+
     @Nullable
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     private File downloadFile(
             @NotNull Repository repository,
             @NotNull SimpleDependency dependency,
@@ -252,28 +713,147 @@ final class SimpleMavenResolver implements MavenResolver {
             @NotNull String inputSubfilePath,
             @NotNull String outputSubfilePath)
             throws Throwable {
+        return downloadFile(
+                repository,
+                dependency,
+                destinationDirectory,
+                makeParentPath(dependency),
+                inputSubfilePath,
+                outputSubfilePath,
+                null,
+                null);
+    }
 
-        String parentPath = makeParentPath(dependency);
-        URI location = makeLocation(repository.getUrl(), parentPath + inputSubfilePath);
+    @Nullable
+    private File downloadFile(
+            @NotNull Repository repository,
+            @NotNull SimpleDependency dependency,
+            @NotNull File destinationDirectory,
+            @NotNull String inputSubfilePath,
+            @NotNull String outputSubfilePath,
+            @NotNull Consumer<InputStream> parser)
+            throws Throwable {
+        return downloadFile(
+                repository,
+                dependency,
+                destinationDirectory,
+                makeParentPath(dependency),
+                inputSubfilePath,
+                outputSubfilePath,
+                parser,
+                null);
+    }
 
-        if (!isExists(repository, dependency, location)) {
-            return null;
+    @Nullable
+    private File downloadFile(
+            @NotNull Repository repository,
+            @NotNull SimpleDependency dependency,
+            @NotNull File destinationDirectory,
+            @NotNull String parentPath,
+            @NotNull String inputSubfilePath,
+            @NotNull String outputSubfilePath,
+            @Nullable Consumer<InputStream> parser,
+            @Nullable SimpleMetadataStatus status)
+            throws Throwable {
+        DownloadEvent event = Jfr.download();
+        event.begin();
+        File destinationFile = null;
+        try {
+            destinationFile = downloadFile(
+                    event,
+                    repository,
+                    dependency,
+                    destinationDirectory,
+                    parentPath,
+                    inputSubfilePath,
+                    outputSubfilePath,
+                    parser,
+                    status);
+            return destinationFile;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setRepository(repository.getName());
+                event.setCoordinates(makeCoordinates(dependency));
+                event.setSucceeded(destinationFile != null);
+                event.commit();
+            }
         }
+    }
+
+    private static boolean isCompressible(@NotNull String subfilePath) {
+        return subfilePath.endsWith(POM_FILE_SUFFIX) || subfilePath.endsWith(METADATA_FILE_SUFFIX);
+    }
+
+    @NotNull
+    private static InputStream decodeContent(@NotNull InputStream inputStream, @Nullable String contentEncoding)
+            throws IOException {
+        if (contentEncoding == null) {
+            return inputStream;
+        }
+        switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "":
+            case "identity":
+                return inputStream;
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(inputStream, DEFAULT_BUFFER_SIZE);
+            case "deflate":
+                PushbackInputStream input = new PushbackInputStream(inputStream, 2);
+                byte[] header = new byte[2];
+                int read = input.read(header, 0, 2);
+                if (read > 0) {
+                    input.unread(header, 0, read);
+                }
+                boolean zlibWrapped = read == 2
+                        && (header[0] & 0x0F) == 8
+                        && (((header[0] & 0xFF) << 8) | (header[1] & 0xFF)) % 31 == 0;
+                return new InflaterInputStream(input, new Inflater(!zlibWrapped), DEFAULT_BUFFER_SIZE);
+            default:
+                throw new IOException("Unsupported content encoding: " + contentEncoding);
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private File downloadFile(
+            @NotNull DownloadEvent event,
+            @NotNull Repository repository,
+            @NotNull SimpleDependency dependency,
+            @NotNull File destinationDirectory,
+            @NotNull String parentPath,
+            @NotNull String inputSubfilePath,
+            @NotNull String outputSubfilePath,
+            @Nullable Consumer<InputStream> parser,
+            @Nullable SimpleMetadataStatus status)
+            throws Throwable {
+
+        URI location = makeLocation(repository.getUrl(), parentPath + inputSubfilePath);
+        event.setLocation(location.toString());
 
         File destinationFile = new File(destinationDirectory, parentPath + outputSubfilePath).getAbsoluteFile();
-        if ("file".equals(location.getScheme())) {
-            if (new File(location)
-                    .toPath()
-                    .toAbsolutePath()
-                    .normalize()
-                    .toString()
-                    .equals(destinationFile
-                            .toPath()
-                            .toAbsolutePath()
-                            .normalize()
-                            .toString())) {
-                return destinationFile;
+        String snapshot = makeSnapshotSource(repository, dependency);
+        if (snapshot != null && snapshot.equals(SimpleMetadataStatus.readSnapshot(destinationFile))) {
+            Log.debug(() -> String.format("Reused snapshot '%s' for '%s'.", snapshot, location));
+            return destinationFile;
+        }
+        boolean revalidating = status != null && status.isUpdated() && destinationFile.isFile();
+        if (!revalidating && !isExists(repository, dependency, location, parentPath + inputSubfilePath)) {
+            if (repository instanceof LocalRepository) {
+                return linkFromOverlays(parentPath + inputSubfilePath, destinationFile);
             }
+            return null;
+        }
+
+        RepositoryTransport transport = SimpleTransports.of(transports, repository, location);
+        File localFile = transport.getLocalFile(repository, location);
+        if (localFile != null
+                && localFile
+                        .toPath()
+                        .toAbsolutePath()
+                        .normalize()
+                        .equals(destinationFile.toPath().toAbsolutePath().normalize())) {
+            return destinationFile;
         }
         File parentFile = destinationFile.getParentFile();
         if (!parentFile.exists()) {
@@ -283,54 +863,86 @@ final class SimpleMavenResolver implements MavenResolver {
         byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
         Log.info(String.format("Downloading '%s'...", location));
 
+        SimpleTransferLimiter limiter = repository instanceof RemoteRepository
+                ? SimpleTransferLimiter.of((RemoteRepository) repository)
+                : null;
+        boolean bulk = !isCompressible(inputSubfilePath);
         final int MAX_RETRIES = 5;
         boolean success = false;
         for (int i = 0; i < MAX_RETRIES; i++) {
             long expectedLength = -1;
             long totalRead = 0;
+            event.setAttempts(i + 1);
 
-            HttpURLConnection connection = null;
-            InputStream inputStream = null;
+            TransportResponse response = null;
+            boolean limited = false;
             try {
-                if (repository instanceof LocalRepository) {
-                    inputStream = Files.newInputStream(new File(location).toPath());
-                } else if (repository instanceof RemoteRepository) {
-                    String scheme = location.getScheme();
-                    if ("file".equals(scheme)) {
-                        inputStream = Files.newInputStream(new File(location).toPath());
-                    } else if ("http".equals(scheme) || "https".equals(scheme)) {
-                        connection = (HttpURLConnection) location.toURL().openConnection();
-                        connection.setRequestMethod("GET");
-                        int responseCode = connection.getResponseCode();
-                        if (responseCode != HttpURLConnection.HTTP_OK) {
-                            if (i < MAX_RETRIES - 1) {
-                                continue;
-                            } else {
-                                throw new MavenResolutionException(
-                                        String.format("Failed to download '%s'. HTTP %d", location, responseCode));
-                            }
-                        }
-                        inputStream = connection.getInputStream();
-                    }
+                if (limiter != null) {
+                    limiter.acquireConnection(bulk);
+                    limited = true;
                 }
-                if (inputStream == null) {
-                    throw new UnsupportedOperationException();
+                response = transport.fetch(
+                        repository,
+                        location,
+                        revalidating
+                                ? new TransportRequest(
+                                        isCompressible(inputSubfilePath),
+                                        status.getEtag(),
+                                        status.getLastModified(),
+                                        0L)
+                                : new TransportRequest(isCompressible(inputSubfilePath), null, 0L, 0L));
+                InputStream body = response.getBody();
+                if (revalidating) {
+                    if (response.getStatus() == TransportStatus.NOT_MODIFIED) {
+                        Log.debug(() -> String.format("Not modified '%s'.", location));
+                        return destinationFile;
+                    }
+                    if (response.getStatus() == TransportStatus.NOT_FOUND) {
+                        return null;
+                    }
                 }
-                try (InputStream input = inputStream) {
-                    if (connection != null) {
-                        String contentLength = connection.getHeaderField("Content-Length");
-                        if (contentLength != null && StringUtils.isInteger(contentLength)) {
-                            expectedLength = Long.parseLong(contentLength);
-                        }
+                if (response.getStatus() != TransportStatus.OK || body == null) {
+                    if (i < MAX_RETRIES - 1) {
+                        continue;
+                    } else {
+                        throw new MavenResolutionException(String.format(
+                                "Failed to download '%s'. %s",
+                                location,
+                                response.getMessage() == null ? response.getStatus() : response.getMessage()));
                     }
+                }
+                CountingInputStream transferred = new CountingInputStream(limited ? limiter.limit(body) : body);
+                MavenResolutionException parseFailure = null;
+                try (InputStream input = decodeContent(transferred, response.getContentEncoding())) {
+                    expectedLength = response.getContentLength();
+                    Files.deleteIfExists(destinationFile.toPath());
+                    IntegrityScanner.deleteChecksums(destinationFile);
                     try (OutputStream output = Files.newOutputStream(destinationFile.toPath())) {
-                        int read;
-                        while ((read = input.read(buffer, 0, DEFAULT_BUFFER_SIZE)) >= 0) {
-                            output.write(buffer, 0, read);
-                            totalRead += read;
+                        if (parser != null) {
+                            InputStream tee = new TeeInputStream(input, output);
+                            try {
+                                parser.accept(new FilterInputStream(tee) {
+                                    @Override
+                                    public void close() {}
+                                });
+                            } catch (MavenResolutionException e) {
+                                parseFailure = e;
+                            }
+                            while (tee.read(buffer, 0, DEFAULT_BUFFER_SIZE) >= 0) {
+                                continue;
+                            }
+                        } else {
+                            int read;
+                            while ((read = input.read(buffer, 0, DEFAULT_BUFFER_SIZE)) >= 0) {
+                                output.write(buffer, 0, read);
+                            }
                         }
                         output.flush();
                     }
+                    while (transferred.read(buffer, 0, DEFAULT_BUFFER_SIZE) >= 0) {
+                        continue;
+                    }
+                    totalRead = transferred.getCount();
                     if (expectedLength > 0 && totalRead != expectedLength) {
                         throw new IOException("Download incomplete: expected " + expectedLength + " bytes, got "
                                 + totalRead + " bytes.");
@@ -338,9 +950,18 @@ final class SimpleMavenResolver implements MavenResolver {
                     if (destinationFile.length() < 100) {
                         throw new IOException("Downloaded file too small to be valid.");
                     }
+                    if (parseFailure != null) {
+                        throw parseFailure;
+                    }
+                    if (status != null) {
+                        status.setEtag(response.getEtag());
+                        status.setLastModified(response.getLastModified());
+                    }
+                    event.setBytes(totalRead);
                     success = true;
                 } catch (IOException e) {
                     if (i == MAX_RETRIES - 1) {
+                        destinationFile.delete();
                         throw new MavenResolutionException("Failed to download '" + location + "'.", e);
                     }
                     Log.warn(String.format(
@@ -348,8 +969,16 @@ final class SimpleMavenResolver implements MavenResolver {
                     destinationFile.delete();
                 }
             } finally {
-                if (connection != null) {
-                    connection.disconnect();
+                if (response != null) {
+                    try {
+                        response.close();
+                    } catch (IOException e) {
+                        Log.debug(() -> String.format(
+                                "Failed to close response of '%s': %s", location, e.getMessage()));
+                    }
+                }
+                if (limited) {
+                    limiter.releaseConnection(bulk);
                 }
             }
             if (success) {
@@ -360,10 +989,25 @@ final class SimpleMavenResolver implements MavenResolver {
             destinationFile.delete();
             throw new MavenResolutionException("Failed to download '" + location + "'.");
         }
+        if (snapshot != null) {
+            SimpleMetadataStatus.writeSnapshot(destinationFile, snapshot);
+        }
 
         return destinationFile;
     }
 
+    @Nullable
+    private static String makeSnapshotSource(@NotNull Repository repository, @NotNull SimpleDependency dependency) {
+        if (repository instanceof LocalRepository || !dependency.isResolved()) {
+            return null;
+        }
+        String actualVersion = dependency.asResolved().getActualVersion();
+        if (actualVersion.equals(dependency.getVersion())) {
+            return null;
+        }
+        return repository.getName() + LOCATION_BASE_DELIMITER + actualVersion;
+    }
+
     @NotNull
     private SimpleArtifact download(
             @NotNull Repository repository,
@@ -380,18 +1024,9 @@ final class SimpleMavenResolver implements MavenResolver {
                     makeArtifactFilePath(dependency, true),
                     makeArtifactFilePath(dependency, false));
             return destinationFile == null
-                    ? new SimpleArtifact(
-                            dependency.getGroupId(),
-                            dependency.getArtifactId(),
-                            dependency.getExtension(),
-                            dependency.getClassifier(),
-                            dependency.getVersion())
+                    ? new SimpleArtifact(dependency.getCoordinate())
                     : new SimpleResolvedArtifact(
-                            dependency.getGroupId(),
-                            dependency.getArtifactId(),
-                            dependency.getExtension(),
-                            dependency.getClassifier(),
-                            dependency.getVersion(),
+                            dependency.getCoordinate(),
                             dependency.getActualVersion(),
                             dependency.getUpdatedTime(),
                             repository,
@@ -406,13 +1041,114 @@ final class SimpleMavenResolver implements MavenResolver {
     }
 
     @NotNull
-    private Set<SimpleResolvedArtifact> resolving(
+    private Future<SimpleArtifact> fetch(
+            @NotNull SimpleResolvedDependency dependency,
+            @NotNull File destinationDirectory,
+            @NotNull SimpleResolutionNode node) {
+        FutureTask<SimpleArtifact> task = new FutureTask<>(() -> {
+            long startTime = System.nanoTime();
+            SimpleArtifact artifact = download(localRepository, dependency, destinationDirectory);
+            if (!artifact.isResolved()) {
+                artifact = download(dependency.getRepository(), dependency, destinationDirectory);
+            }
+            node.setFetchNanos(System.nanoTime() - startTime);
+            return artifact;
+        });
+        if (downloadExecutor == null) {
+            task.run();
+            return task;
+        }
+        SimpleCoordinate coordinate = dependency.getCoordinate();
+        Future<SimpleArtifact> fetching = this.fetching.putIfAbsent(coordinate, task);
+        if (fetching != null) {
+            return fetching;
+        }
+        try {
+            downloadExecutor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    this.fetching.remove(coordinate, task);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.fetching.remove(coordinate, task);
+            task.run();
+        }
+        return task;
+    }
+
+    @NotNull
+    private SimpleArtifact await(@NotNull Future<SimpleArtifact> artifact) {
+        try {
+            return artifact.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MavenResolutionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MavenResolutionException) {
+                throw (MavenResolutionException) cause;
+            }
+            throw new MavenResolutionException(cause);
+        }
+    }
+
+    @NotNull
+    private SimplePendingResolution prepare(
             @NotNull File destinationDirectory,
             @NotNull List<RemoteRepository> remoteRepositories,
             @NotNull SimpleDependencyResolver dependencyResolver,
             @NotNull SimpleDependency resolving,
             @NotNull Set<DependencyScope> resolvingDependencyScopes) {
+        SimpleResolutionNode node = new SimpleResolutionNode(
+                resolving.getCoordinate(), resolving.getScope(), SimpleResolutionNode.SOURCE_RESOLVED);
+        try {
+            return prepare(
+                    destinationDirectory,
+                    remoteRepositories,
+                    dependencyResolver,
+                    resolving,
+                    resolvingDependencyScopes,
+                    node);
+        } catch (MavenResolutionException e) {
+            if (failureMode == ResolutionFailureMode.FAIL_FAST) {
+                throw e;
+            }
+            node.failed(e);
+            return new SimplePendingResolution(null, null, false, null, Collections.emptySet(), node);
+        }
+    }
+
+    @NotNull
+    private SimplePendingResolution prepare(
+            @NotNull File destinationDirectory,
+            @NotNull List<RemoteRepository> remoteRepositories,
+            @NotNull SimpleDependencyResolver dependencyResolver,
+            @NotNull SimpleDependency resolving,
+            @NotNull Set<DependencyScope> resolvingDependencyScopes,
+            @NotNull SimpleResolutionNode node) {
+        SimpleCoordinate cacheKey = null;
+        boolean ranged = false;
+        boolean unstable =
+                SimpleVersionRange.isRange(resolving.getVersion()) || SimpleVersion.isSnapshot(resolving.getVersion());
+        node.setUnstable(unstable);
         if (!resolving.isResolved()) {
+            if (resolutionCache.isEnabled()) {
+                cacheKey = resolving.getCoordinate();
+                Set<SimpleResolvedArtifact> cached =
+                        resolutionCache.get(cacheKey, resolvingDependencyScopes, generation.get());
+                if (cached != null) {
+                    SimpleResolutionNode cachedNode = makeNode(resolving, SimpleResolutionNode.SOURCE_CACHE, cached);
+                    cachedNode.setUnstable(unstable);
+                    return new SimplePendingResolution(null, cacheKey, false, null, cached, cachedNode);
+                }
+            }
+            long startTime = System.nanoTime();
+            ranged = SimpleVersionRange.isRange(resolving.getVersion());
+            if (ranged) {
+                resolving = resolveVersionRange(destinationDirectory, remoteRepositories, resolving);
+            }
             resolving = resolve(localRepository, dependencyResolver, resolving, destinationDirectory);
             if (!resolving.isResolved()) {
                 for (Repository remoteRepository : remoteRepositories) {
@@ -425,62 +1161,184 @@ final class SimpleMavenResolver implements MavenResolver {
             if (!resolving.isResolved()) {
                 throw new MavenResolutionException(String.format("Cannot resolve dependency. %s", resolving));
             }
+            node.setResolveNanos(System.nanoTime() - startTime);
         }
         SimpleResolvedDependency resolvedDependency = resolving.asResolved();
-        SimpleArtifact artifact = download(localRepository, resolvedDependency, destinationDirectory);
+        node.resolved(resolvedDependency);
+        return new SimplePendingResolution(
+                resolvedDependency,
+                cacheKey,
+                ranged,
+                fetch(resolvedDependency, destinationDirectory, node),
+                null,
+                node);
+    }
+
+    @NotNull
+    private static SimpleResolutionNode makeNode(
+            @NotNull SimpleDependency dependency,
+            @NotNull String source,
+            @NotNull Set<SimpleResolvedArtifact> artifacts) {
+        SimpleResolutionNode node =
+                new SimpleResolutionNode(dependency.getCoordinate(), dependency.getScope(), source);
+        for (SimpleResolvedArtifact artifact : artifacts) {
+            SimpleResolutionNode child = SimpleResolutionNode.of(artifact, source);
+            if (artifact.getCoordinate().getArtifactKey().equals(dependency.getCoordinate().getArtifactKey())) {
+                node.setSelected(child.getSelected());
+                node.setActualVersion(child.getActualVersion());
+                node.setRepository(child.getRepository());
+                node.setArtifactRepository(child.getArtifactRepository());
+            } else {
+                node.getChildren().add(child);
+            }
+        }
+        return node;
+    }
+
+    @NotNull
+    private Set<SimpleResolvedArtifact> resolving(
+            @NotNull File destinationDirectory,
+            @NotNull List<RemoteRepository> remoteRepositories,
+            @NotNull SimpleDependencyResolver dependencyResolver,
+            @NotNull SimplePendingResolution pending,
+            @NotNull Set<DependencyScope> resolvingDependencyScopes) {
+        if (pending.isDone()) {
+            return pending.getResult();
+        }
+        SimpleResolvedDependency resolvedDependency = pending.getDependency();
+        SimpleResolutionNode node = pending.getNode();
         List<SimpleDependency> dependencies = resolvedDependency.getDependencies();
+        List<SimplePendingResolution> children = new ArrayList<>(dependencies.size());
+        for (SimpleDependency dependency : dependencies) {
+            if (!resolvingDependencyScopes.contains(dependency.getScope())) {
+                continue;
+            }
+            SimplePendingResolution child = prepare(
+                    destinationDirectory,
+                    remoteRepositories,
+                    dependencyResolver,
+                    dependency,
+                    resolvingDependencyScopes);
+            node.getChildren().add(child.getNode());
+            children.add(child);
+        }
         Set<SimpleResolvedArtifact> result = new LinkedHashSet<>(1 + dependencies.size());
+        try {
+            downloading(
+                    destinationDirectory,
+                    remoteRepositories,
+                    dependencyResolver,
+                    pending,
+                    resolvingDependencyScopes,
+                    result);
+        } catch (MavenResolutionException e) {
+            if (failureMode == ResolutionFailureMode.FAIL_FAST) {
+                throw e;
+            }
+            node.failed(e);
+        }
+        for (SimplePendingResolution child : children) {
+            result.addAll(resolving(
+                    destinationDirectory,
+                    remoteRepositories,
+                    dependencyResolver,
+                    child,
+                    resolvingDependencyScopes));
+        }
+        boolean unstable = false;
+        for (SimpleResolutionNode child : node.getChildren()) {
+            if (child.isIncomplete()) {
+                node.setIncomplete(true);
+            }
+            if (child.isUnstable()) {
+                unstable = true;
+                node.setUnstable(true);
+            }
+        }
+        SimpleCoordinate cacheKey = pending.getCacheKey();
+        if (cacheKey != null && !node.isIncomplete() && !unstable) {
+            resolutionCache.put(
+                    cacheKey,
+                    resolvingDependencyScopes,
+                    result,
+                    isAlwaysUpdate(result, remoteRepositories, pending.isRanged()),
+                    generation.get());
+        }
+        return result;
+    }
+
+    private void downloading(
+            @NotNull File destinationDirectory,
+            @NotNull List<RemoteRepository> remoteRepositories,
+            @NotNull SimpleDependencyResolver dependencyResolver,
+            @NotNull SimplePendingResolution pending,
+            @NotNull Set<DependencyScope> resolvingDependencyScopes,
+            @NotNull Set<SimpleResolvedArtifact> result) {
+        SimpleResolvedDependency resolvedDependency = pending.getDependency();
+        SimpleResolutionNode node = pending.getNode();
+        SimpleDependency resolving = resolvedDependency;
+        SimpleArtifact artifact = await(pending.getArtifact());
         if (!artifact.isResolved()) {
             Repository resolvedRepository = resolvedDependency.getRepository();
-            artifact = download(resolvedRepository, resolvedDependency, destinationDirectory);
-            if (!artifact.isResolved()) {
-                String repositoryName = resolvedRepository.getName();
-                boolean start = false;
-                for (Repository remoteRepository : remoteRepositories) {
-                    if (start) {
-                        if (artifact.isResolved()) {
-                            break;
-                        }
-                        if (repositoryName.equals(remoteRepository.getName())) {
-                            continue;
-                        }
-                        resolving =
-                                resolve(remoteRepository, dependencyResolver, resolvedDependency, destinationDirectory);
-                        if (resolving.isResolved()) {
-                            result.addAll(resolving(
-                                    destinationDirectory,
-                                    remoteRepositories,
-                                    dependencyResolver,
-                                    resolving,
-                                    resolvingDependencyScopes));
-                        }
-                    } else if (repositoryName.equals(remoteRepository.getName())) {
-                        start = true;
+            String repositoryName = resolvedRepository.getName();
+            boolean start = false;
+            for (Repository remoteRepository : remoteRepositories) {
+                if (start) {
+                    if (artifact.isResolved()) {
+                        break;
+                    }
+                    if (repositoryName.equals(remoteRepository.getName())) {
+                        continue;
+                    }
+                    resolving = resolve(remoteRepository, dependencyResolver, resolvedDependency, destinationDirectory);
+                    if (resolving.isResolved()) {
+                        SimplePendingResolution fallback = prepare(
+                                destinationDirectory,
+                                remoteRepositories,
+                                dependencyResolver,
+                                resolving,
+                                resolvingDependencyScopes);
+                        node.getChildren().add(fallback.getNode());
+                        result.addAll(resolving(
+                                destinationDirectory,
+                                remoteRepositories,
+                                dependencyResolver,
+                                fallback,
+                                resolvingDependencyScopes));
                     }
+                } else if (repositoryName.equals(remoteRepository.getName())) {
+                    start = true;
                 }
-            } else {
-                result.add(artifact.asResolved());
             }
         } else {
+            node.setArtifactRepository(artifact.asResolved().getRepository());
             result.add(artifact.asResolved());
         }
         if (result.isEmpty()) {
             throw new MavenResolutionException(String.format("Cannot download dependency. %s", resolving));
         }
-        if (!dependencies.isEmpty()) {
-            for (SimpleDependency dependency : dependencies) {
-                if (!resolvingDependencyScopes.contains(dependency.getScope())) {
-                    continue;
+    }
+
+    private boolean isAlwaysUpdate(
+            @NotNull Set<SimpleResolvedArtifact> artifacts,
+            @NotNull List<RemoteRepository> remoteRepositories,
+            boolean ranged) {
+        for (SimpleResolvedArtifact artifact : artifacts) {
+            if (isAlwaysUpdate(artifact.getRepository())) {
+                return true;
+            }
+        }
+        if (ranged) {
+            if (isAlwaysUpdate(localRepository)) {
+                return true;
+            }
+            for (RemoteRepository remoteRepository : remoteRepositories) {
+                if (isAlwaysUpdate(remoteRepository)) {
+                    return true;
                 }
-                result.addAll(resolving(
-                        destinationDirectory,
-                        remoteRepositories,
-                        dependencyResolver,
-                        dependency,
-                        resolvingDependencyScopes));
             }
         }
-        return result;
+        return false;
     }
 
     @NotNull
@@ -488,11 +1346,22 @@ final class SimpleMavenResolver implements MavenResolver {
     public List<ResolvedArtifact> resolve(
             @NotNull List<Dependency> dependencies, @NotNull DependencyScope... dependencyScopes)
             throws MavenResolutionException {
+        return resolveGraph(dependencies, dependencyScopes).getArtifacts();
+    }
+
+    @NotNull
+    @Override
+    public SimpleResolutionReport resolveGraph(
+            @NotNull List<Dependency> dependencies, @NotNull DependencyScope... dependencyScopes)
+            throws MavenResolutionException {
         Validation.notNull(dependencies, "Dependencies id must not be null or blank.");
         Validation.notNull(dependencyScopes, "Dependency scopes must not be null.");
         if (dependencies.isEmpty()) {
-            return Collections.emptyList();
+            return new SimpleResolutionReport(Collections.emptyList(), Collections.emptyList(), 0L);
         }
+        long startTime = System.nanoTime();
+        generation.incrementAndGet();
+        List<SimpleResolutionNode> nodes = new ArrayList<>(dependencies.size());
         Set<SimpleResolvedArtifact> resolving = new LinkedHashSet<>(dependencies.size() * 6);
         Set<DependencyScope> resolvingDependencyScopes = dependencyScopes.length == 0
                 ? DEFAULT_RESOLVING_SCOPES
@@ -512,26 +1381,121 @@ final class SimpleMavenResolver implements MavenResolver {
                     }
                 })
                 .collect(Collectors.toList())) {
-            resolving.addAll(resolving(
-                    getLocalRepository().getLocation(),
-                    getRemoteRepositories(),
-                    getDependencyResolver(),
-                    dependency,
-                    resolvingDependencyScopes));
+            if (dependency.isResolved()) {
+                SimplePendingResolution pending = prepare(dependency, resolvingDependencyScopes);
+                nodes.add(pending.getNode());
+                resolving.addAll(resolving(pending, resolvingDependencyScopes));
+                continue;
+            }
+            String root = SimpleResolutionGraph.makeKey(dependency.getCoordinate(), resolvingDependencyScopes);
+            Set<SimpleResolvedArtifact> subtree = resolutionGraph.get(root);
+            if (subtree != null) {
+                nodes.add(makeNode(dependency, SimpleResolutionNode.SOURCE_GRAPH, subtree));
+            } else {
+                SimplePendingResolution pending = prepare(dependency, resolvingDependencyScopes);
+                nodes.add(pending.getNode());
+                subtree = resolving(pending, resolvingDependencyScopes);
+                SimpleResolutionNode node = pending.getNode();
+                if (!node.isIncomplete()) {
+                    resolutionGraph.put(
+                            root,
+                            subtree,
+                            !node.isUnstable() && !isAlwaysUpdate(subtree, getRemoteRepositories(), false));
+                }
+            }
+            resolving.addAll(subtree);
         }
-        Map<String, SimpleResolvedArtifact> result = new LinkedHashMap<>(resolving.size());
+        resolutionGraph.save();
+        Map<SimpleCoordinate, SimpleResolvedArtifact> result = new LinkedHashMap<>(resolving.size());
         for (SimpleResolvedArtifact artifact : resolving) {
-            String id = new StringJoiner(getDependencyResolver().getIdDelimiter())
-                    .add(artifact.getGroupId())
-                    .add(artifact.getArtifactId())
-                    .add(artifact.getClassifier())
-                    .add(artifact.getExtension())
-                    .toString();
+            SimpleCoordinate id = artifact.getCoordinate().getArtifactKey();
             SimpleResolvedArtifact last = result.get(id);
             if (last == null || last.compareTo(artifact) < 0) {
                 result.put(id, artifact);
             }
         }
-        return new ArrayList<>(result.values());
+        markWinners(nodes, result);
+        Map<SimpleCoordinate, SimpleResolutionNode> failures = new LinkedHashMap<>();
+        collectFailures(nodes, failures);
+        if (!failures.isEmpty()) {
+            if (failureMode == ResolutionFailureMode.AGGREGATE) {
+                throw makeFailure(failures.values());
+            }
+            for (SimpleResolutionNode failure : failures.values()) {
+                Log.warn(String.format(
+                        "Skipped unresolvable dependency %s: %s",
+                        failure.getRequested(),
+                        failure.getFailure().getMessage()));
+            }
+        }
+        SimpleRepositoryMaintainer maintainer = SimpleRepositoryMaintainer.of(getLocalRepository());
+        if (maintainer != null) {
+            for (SimpleResolvedArtifact artifact : result.values()) {
+                maintainer.touch(artifact.getFile());
+            }
+            maintainer.schedule();
+        }
+        return new SimpleResolutionReport(nodes, new ArrayList<>(result.values()), System.nanoTime() - startTime);
+    }
+
+    @NotNull
+    private SimplePendingResolution prepare(
+            @NotNull SimpleDependency dependency, @NotNull Set<DependencyScope> resolvingDependencyScopes) {
+        return prepare(
+                getLocalRepository().getLocation(),
+                getRemoteRepositories(),
+                getDependencyResolver(),
+                dependency,
+                resolvingDependencyScopes);
+    }
+
+    @NotNull
+    private Set<SimpleResolvedArtifact> resolving(
+            @NotNull SimplePendingResolution pending, @NotNull Set<DependencyScope> resolvingDependencyScopes) {
+        return resolving(
+                getLocalRepository().getLocation(),
+                getRemoteRepositories(),
+                getDependencyResolver(),
+                pending,
+                resolvingDependencyScopes);
+    }
+
+    private static void collectFailures(
+            @NotNull List<SimpleResolutionNode> nodes, @NotNull Map<SimpleCoordinate, SimpleResolutionNode> failures) {
+        for (SimpleResolutionNode node : nodes) {
+            if (node.getFailure() != null) {
+                failures.putIfAbsent(node.getRequested(), node);
+            }
+            collectFailures(node.getChildren(), failures);
+        }
+    }
+
+    @NotNull
+    private static MavenResolutionException makeFailure(@NotNull Collection<SimpleResolutionNode> failures) {
+        StringBuilder message =
+                new StringBuilder(String.format("Cannot resolve %d dependencies.", failures.size()));
+        for (SimpleResolutionNode failure : failures) {
+            message.append("\n    ")
+                    .append(failure.getRequested())
+                    .append(": ")
+                    .append(failure.getFailure().getMessage());
+        }
+        MavenResolutionException exception = new MavenResolutionException(message.toString());
+        for (SimpleResolutionNode failure : failures) {
+            exception.addSuppressed(failure.getFailure());
+        }
+        return exception;
+    }
+
+    private static void markWinners(
+            @NotNull List<SimpleResolutionNode> nodes, @NotNull Map<SimpleCoordinate, SimpleResolvedArtifact> winners) {
+        for (SimpleResolutionNode node : nodes) {
+            SimpleCoordinate selected = node.getSelected();
+            if (selected != null) {
+                SimpleResolvedArtifact winner = winners.get(selected.getArtifactKey());
+                node.setWinningVersion(winner == null ? null : winner.getVersion());
+            }
+            markWinners(node.getChildren(), winners);
+        }
     }
 }
@@ -22,34 +22,54 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 import org.xml.sax.SAXException;
 import team.idealstate.sugar.maven.resolver.api.LocalRepository;
 import team.idealstate.sugar.maven.resolver.api.MavenResolverConfiguration;
 import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
 import team.idealstate.sugar.maven.resolver.api.RepositoryPolicy;
+import team.idealstate.sugar.maven.resolver.api.ResolutionFailureMode;
 import team.idealstate.sugar.maven.resolver.api.util.DepthDescriptionHandler;
+import team.idealstate.sugar.maven.resolver.api.util.DepthDescriptionTrie;
 import team.idealstate.sugar.validate.annotation.NotNull;
 
 final class SimpleMavenResolverConfiguration extends DepthDescriptionHandler implements MavenResolverConfiguration {
 
-    private static final List<String> DEPTH_DESC_LOCAL_REPOSITORY =
-            Collections.unmodifiableList(Arrays.asList("resolver", "local"));
-
-    private static final List<String> DEPTH_DESC_REMOTE_REPOSITORY =
-            Collections.unmodifiableList(Arrays.asList("resolver", "remote", "repository"));
+    private static final String USER_HOME = "~";
+    private static final String USER_HOME_PREFIX = USER_HOME + "/";
+    private static final String SIZE_UNITS = "KMGT";
+    private static final DepthDescriptionTrie DEPTH_DESC = new DepthDescriptionTrie();
+    private static final int DEPTH_DESC_LOCAL_REPOSITORY = DEPTH_DESC.register("resolver", "local");
+    private static final int DEPTH_DESC_LOCAL_REPOSITORY_OVERLAY =
+            DEPTH_DESC.register("resolver", "local", "overlays", "overlay");
+    private static final int DEPTH_DESC_REMOTE_REPOSITORY = DEPTH_DESC.register("resolver", "remote", "repository");
+    private static final int DEPTH_DESC_CACHE = DEPTH_DESC.register("resolver", "cache");
+    private static final int DEPTH_DESC_DOWNLOADS = DEPTH_DESC.register("resolver", "downloads");
+    private static final int DEPTH_DESC_FAILURES = DEPTH_DESC.register("resolver", "failures");
 
     private String localRepositoryName = null;
     private String localRepositoryUrl = null;
     private String localRepositoryPolicies = null;
+    private final List<File> localRepositoryOverlays = new ArrayList<>();
+    private String localRepositoryMaxSize = null;
 
     private String remoteRepositoryName = null;
     private String remoteRepositoryUrl = null;
     private String remoteRepositoryPolicies = null;
+    private String remoteRepositoryMaxConnections = null;
+    private String remoteRepositoryBandwidth = null;
+    private String remoteRepositoryIndex = null;
 
     private final List<RemoteRepository> repositories = new ArrayList<>();
 
-    public SimpleMavenResolverConfiguration() {}
+    private String cacheSize = null;
+    private String downloadThreads = null;
+    private String failureMode = null;
+
+    public SimpleMavenResolverConfiguration() {
+        super(DEPTH_DESC);
+    }
 
     @NotNull
     @Override
@@ -57,7 +77,9 @@ final class SimpleMavenResolverConfiguration extends DepthDescriptionHandler imp
         return new SimpleLocalRepository(
                 localRepositoryName == null ? "local" : localRepositoryName,
                 localRepositoryUrl == null ? new File("./maven/repository/") : new File(URI.create(localRepositoryUrl)),
-                parseRepositoryPolicies(localRepositoryPolicies));
+                parseRepositoryPolicies(localRepositoryPolicies),
+                localRepositoryOverlays,
+                parseSize(localRepositoryMaxSize));
     }
 
     @NotNull
@@ -66,47 +88,168 @@ final class SimpleMavenResolverConfiguration extends DepthDescriptionHandler imp
         return repositories.isEmpty() ? Collections.emptyList() : new ArrayList<>(repositories);
     }
 
+    @Override
+    public int getCacheSize() {
+        if (cacheSize == null) {
+            return DEFAULT_CACHE_SIZE;
+        }
+        try {
+            return Integer.parseInt(cacheSize.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cache size: " + cacheSize, e);
+        }
+    }
+
+    @Override
+    public int getDownloadThreads() {
+        if (downloadThreads == null) {
+            return DEFAULT_DOWNLOAD_THREADS;
+        }
+        try {
+            return Integer.parseInt(downloadThreads.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid download threads: " + downloadThreads, e);
+        }
+    }
+
+    @NotNull
+    @Override
+    public ResolutionFailureMode getFailureMode() {
+        return failureMode == null ? ResolutionFailureMode.DEFAULT : ResolutionFailureMode.of(failureMode.trim());
+    }
+
     public void endElement(String uri, String localName, String qName) throws SAXException {
         if (isMatched(DEPTH_DESC_REMOTE_REPOSITORY)) {
             repositories.add(new SimpleRemoteRepository(
                     remoteRepositoryName,
                     URI.create(remoteRepositoryUrl),
-                    parseRepositoryPolicies(remoteRepositoryPolicies)));
+                    parseRepositoryPolicies(remoteRepositoryPolicies),
+                    parseMaxConnections(remoteRepositoryMaxConnections),
+                    parseSize(remoteRepositoryBandwidth),
+                    remoteRepositoryIndex == null ? null : URI.create(remoteRepositoryIndex)));
             this.remoteRepositoryName = null;
             this.remoteRepositoryUrl = null;
             this.remoteRepositoryPolicies = null;
+            this.remoteRepositoryMaxConnections = null;
+            this.remoteRepositoryBandwidth = null;
+            this.remoteRepositoryIndex = null;
         }
         super.endElement(uri, localName, qName);
     }
 
-    public void characters(char[] ch, int start, int length) throws SAXException {
-        if (isParentMatched(DEPTH_DESC_LOCAL_REPOSITORY)) {
+    @Override
+    protected boolean isTextRequired() {
+        return isParentMatched(DEPTH_DESC_LOCAL_REPOSITORY)
+                || isParentMatched(DEPTH_DESC_REMOTE_REPOSITORY)
+                || isParentMatched(DEPTH_DESC_CACHE)
+                || isParentMatched(DEPTH_DESC_DOWNLOADS)
+                || isParentMatched(DEPTH_DESC_FAILURES)
+                || isMatched(DEPTH_DESC_LOCAL_REPOSITORY_OVERLAY);
+    }
+
+    @Override
+    protected void onText(@NotNull String text) throws SAXException {
+        if (isMatched(DEPTH_DESC_LOCAL_REPOSITORY_OVERLAY)) {
+            localRepositoryOverlays.add(parseRepositoryLocation(text));
+        } else if (isParentMatched(DEPTH_DESC_LOCAL_REPOSITORY)) {
             switch (currentQName()) {
                 case "name":
-                    this.localRepositoryName = new String(ch, start, length);
+                    this.localRepositoryName = text;
                     break;
                 case "url":
-                    this.localRepositoryUrl = new String(ch, start, length);
+                    this.localRepositoryUrl = text;
                     break;
                 case "policies":
-                    this.localRepositoryPolicies = new String(ch, start, length);
+                    this.localRepositoryPolicies = text;
+                    break;
+                case "maxSize":
+                    this.localRepositoryMaxSize = text;
                     break;
             }
         } else if (isParentMatched(DEPTH_DESC_REMOTE_REPOSITORY)) {
             switch (currentQName()) {
                 case "name":
-                    this.remoteRepositoryName = new String(ch, start, length);
+                    this.remoteRepositoryName = text;
                     break;
                 case "url":
-                    this.remoteRepositoryUrl = new String(ch, start, length);
+                    this.remoteRepositoryUrl = text;
                     break;
                 case "policies":
-                    this.remoteRepositoryPolicies = new String(ch, start, length);
+                    this.remoteRepositoryPolicies = text;
                     break;
+                case "maxConnections":
+                    this.remoteRepositoryMaxConnections = text;
+                    break;
+                case "bandwidth":
+                    this.remoteRepositoryBandwidth = text;
+                    break;
+                case "index":
+                    this.remoteRepositoryIndex = text;
+                    break;
+            }
+        } else if (isParentMatched(DEPTH_DESC_CACHE)) {
+            if ("size".equals(currentQName())) {
+                this.cacheSize = text;
+            }
+        } else if (isParentMatched(DEPTH_DESC_DOWNLOADS)) {
+            if ("threads".equals(currentQName())) {
+                this.downloadThreads = text;
+            }
+        } else if (isParentMatched(DEPTH_DESC_FAILURES)) {
+            if ("mode".equals(currentQName())) {
+                this.failureMode = text;
             }
         }
     }
 
+    @NotNull
+    private static File parseRepositoryLocation(@NotNull String location) {
+        if (location.equals(USER_HOME)) {
+            return new File(System.getProperty("user.home"));
+        }
+        if (location.startsWith(USER_HOME_PREFIX)) {
+            return new File(System.getProperty("user.home"), location.substring(USER_HOME_PREFIX.length()));
+        }
+        if (location.startsWith("file:")) {
+            return new File(URI.create(location));
+        }
+        return new File(location);
+    }
+
+    private static int parseMaxConnections(String maxConnections) {
+        if (maxConnections == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(maxConnections.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid max connections: " + maxConnections, e);
+        }
+    }
+
+    private static long parseSize(String size) {
+        if (size == null) {
+            return 0L;
+        }
+        String value = size.trim().toUpperCase(Locale.ROOT);
+        if (value.endsWith("IB")) {
+            value = value.substring(0, value.length() - 2);
+        } else if (value.endsWith("B")) {
+            value = value.substring(0, value.length() - 1);
+        }
+        long multiplier = 1L;
+        int unit = value.isEmpty() ? -1 : SIZE_UNITS.indexOf(value.charAt(value.length() - 1));
+        if (unit >= 0) {
+            multiplier = 1L << (10 * (unit + 1));
+            value = value.substring(0, value.length() - 1).trim();
+        }
+        try {
+            return Math.multiplyExact(Long.parseLong(value), multiplier);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid size: " + size, e);
+        }
+    }
+
     @NotNull
     private static List<RepositoryPolicy> parseRepositoryPolicies(String policies) {
         if (policies == null) {
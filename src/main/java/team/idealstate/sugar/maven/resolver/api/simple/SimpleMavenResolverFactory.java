@@ -21,15 +21,27 @@ import team.idealstate.sugar.maven.resolver.api.MavenResolverConfiguration;
 import team.idealstate.sugar.maven.resolver.spi.MavenResolverFactory;
 import team.idealstate.sugar.validate.Validation;
 import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
 
 final class SimpleMavenResolverFactory implements MavenResolverFactory {
     @NotNull
     @Override
     public MavenResolver create(@NotNull MavenResolverConfiguration configuration) {
+        return create(configuration, SimpleMavenResolverFactory.class.getClassLoader());
+    }
+
+    @NotNull
+    @Override
+    public MavenResolver create(
+            @NotNull MavenResolverConfiguration configuration, @Nullable ClassLoader classLoader) {
         Validation.notNull(configuration, "Configuration must not be null.");
         return new SimpleMavenResolver(
                 configuration.getLocalRepository(),
                 configuration.getRemoteRepositories(),
-                new SimpleDependencyResolver());
+                new SimpleDependencyResolver(),
+                configuration.getCacheSize(),
+                configuration.getDownloadThreads(),
+                configuration.getFailureMode(),
+                classLoader);
     }
 }
@@ -16,15 +16,21 @@
 
 package team.idealstate.sugar.maven.resolver.api.simple;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import javax.xml.parsers.SAXParserFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.xml.sax.SAXException;
 import team.idealstate.sugar.maven.exception.MavenException;
 import team.idealstate.sugar.maven.resolver.api.MavenResolver;
+import team.idealstate.sugar.maven.resolver.api.util.SaxParsers;
 import team.idealstate.sugar.maven.resolver.spi.MavenResolverFactory;
 import team.idealstate.sugar.maven.resolver.spi.MavenResolverLoader;
+import team.idealstate.sugar.service.ClassLoaderCache;
 import team.idealstate.sugar.service.ServiceLoader;
 import team.idealstate.sugar.validate.Validation;
 import team.idealstate.sugar.validate.annotation.NotNull;
@@ -33,6 +39,10 @@ import team.idealstate.sugar.validate.annotation.Nullable;
 public final class SimpleMavenResolverLoader implements MavenResolverLoader {
 
     public static final String NAME = "simple";
+    private static final String KEY_DELIMITER = "\n";
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * 4;
+    private static final ClassLoaderCache<MavenResolverFactory> FACTORIES = new ClassLoaderCache<>();
+    private static final ClassLoaderCache<MavenResolver> RESOLVERS = new ClassLoaderCache<>();
 
     @NotNull
     @Override
@@ -56,11 +66,21 @@ public final class SimpleMavenResolverLoader implements MavenResolverLoader {
     public MavenResolver load(@NotNull InputStream configurationInputStream, @Nullable ClassLoader classLoader) {
         Validation.requireNotNull(configurationInputStream, "Configuration input stream must not be null.");
         try (InputStream input = configurationInputStream) {
-            MavenResolverFactory mavenResolverFactory =
-                    ServiceLoader.singleton(MavenResolverFactory.class, classLoader, SimpleMavenResolverFactory::new);
-            SimpleMavenResolverConfiguration configuration = new SimpleMavenResolverConfiguration();
-            SAXParserFactory.newInstance().newSAXParser().parse(input, configuration);
-            return mavenResolverFactory.create(configuration);
+            byte[] configuration = readAllBytes(input);
+            MavenResolverFactory mavenResolverFactory = FACTORIES.get(
+                    classLoader,
+                    MavenResolverFactory.class.getName(),
+                    it -> ServiceLoader.singleton(
+                            MavenResolverFactory.class, classLoader, SimpleMavenResolverFactory::new));
+            Class<?> factoryType = mavenResolverFactory.getClass();
+            ClassLoader factoryClassLoader = factoryType.getClassLoader();
+            if (!SimpleTransports.isShared(classLoader, factoryClassLoader)) {
+                return create(mavenResolverFactory, configuration, classLoader);
+            }
+            return RESOLVERS.get(
+                    factoryClassLoader,
+                    factoryType.getName() + KEY_DELIMITER + new String(configuration, StandardCharsets.UTF_8),
+                    it -> create(mavenResolverFactory, configuration, factoryClassLoader));
         } catch (Throwable e) {
             if (e instanceof MavenException) {
                 throw (MavenException) e;
@@ -68,4 +88,29 @@ public final class SimpleMavenResolverLoader implements MavenResolverLoader {
             throw new MavenException(e);
         }
     }
+
+    @NotNull
+    private static MavenResolver create(
+            @NotNull MavenResolverFactory factory,
+            @NotNull byte[] configuration,
+            @Nullable ClassLoader classLoader) {
+        try {
+            SimpleMavenResolverConfiguration resolverConfiguration = new SimpleMavenResolverConfiguration();
+            SaxParsers.parse(new ByteArrayInputStream(configuration), resolverConfiguration);
+            return factory.create(resolverConfiguration, classLoader);
+        } catch (IOException | SAXException | ParserConfigurationException e) {
+            throw new MavenException(e);
+        }
+    }
+
+    @NotNull
+    private static byte[] readAllBytes(@NotNull InputStream inputStream) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+        byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) >= 0) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
 }
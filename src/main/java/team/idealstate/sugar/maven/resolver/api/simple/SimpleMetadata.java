@@ -20,25 +20,42 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.StringJoiner;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParserFactory;
 import org.xml.sax.SAXException;
+import team.idealstate.sugar.io.CountingInputStream;
+import team.idealstate.sugar.jfr.Jfr;
+import team.idealstate.sugar.jfr.ParseEvent;
 import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
 import team.idealstate.sugar.maven.resolver.api.util.DepthDescriptionHandler;
+import team.idealstate.sugar.maven.resolver.api.util.DepthDescriptionTrie;
+import team.idealstate.sugar.maven.resolver.api.util.SaxParsers;
 import team.idealstate.sugar.validate.Validation;
 import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
 
 final class SimpleMetadata extends DepthDescriptionHandler {
 
     @NotNull
     public static SimpleMetadata resolve(@NotNull InputStream inputStream) {
         Validation.requireNotNull(inputStream, "Input stream must not be null.");
-        try (InputStream input = inputStream) {
+        ParseEvent event = Jfr.metadataParse();
+        event.begin();
+        try (InputStream input = event.isEnabled() ? new CountingInputStream(inputStream) : inputStream) {
             SimpleMetadata handler = new SimpleMetadata();
-            SAXParserFactory.newInstance().newSAXParser().parse(input, handler);
+            SaxParsers.parse(input, handler);
+            event.end();
+            if (event.shouldCommit()) {
+                if (input instanceof CountingInputStream) {
+                    event.setBytes(((CountingInputStream) input).getCount());
+                }
+                event.setCoordinates(handler.getCoordinates());
+                event.setEntries(handler.versions.size());
+                event.commit();
+            }
             return handler;
         } catch (IOException | SAXException | ParserConfigurationException e) {
             throw new MavenResolutionException(e);
@@ -47,26 +64,51 @@ final class SimpleMetadata extends DepthDescriptionHandler {
 
     private static final DateTimeFormatter LAST_UPDATED_FORMATER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
     private static final String VERSION_DELIMITER = "-";
-    private static final List<String> DEPTH_DESC_VERSION =
-            Collections.unmodifiableList(Arrays.asList("metadata", "version"));
-    private static final List<String> DEPTH_DESC_VERSIONING_LAST_UPDATED =
-            Collections.unmodifiableList(Arrays.asList("metadata", "versioning", "lastUpdated"));
-    private static final List<String> DEPTH_DESC_VERSIONING_SNAPSHOT_TIMESTAMP =
-            Collections.unmodifiableList(Arrays.asList("metadata", "versioning", "snapshot", "timestamp"));
-    private static final List<String> DEPTH_DESC_VERSIONING_SNAPSHOT_BUILD_NUMBER =
-            Collections.unmodifiableList(Arrays.asList("metadata", "versioning", "snapshot", "buildNumber"));
+    private static final DepthDescriptionTrie DEPTH_DESC = new DepthDescriptionTrie();
+    private static final int DEPTH_DESC_GROUP_ID = DEPTH_DESC.register("metadata", "groupId");
+    private static final int DEPTH_DESC_ARTIFACT_ID = DEPTH_DESC.register("metadata", "artifactId");
+    private static final int DEPTH_DESC_VERSION = DEPTH_DESC.register("metadata", "version");
+    private static final int DEPTH_DESC_VERSIONING_VERSION =
+            DEPTH_DESC.register("metadata", "versioning", "versions", "version");
+    private static final int DEPTH_DESC_VERSIONING_LAST_UPDATED =
+            DEPTH_DESC.register("metadata", "versioning", "lastUpdated");
+    private static final int DEPTH_DESC_VERSIONING_SNAPSHOT_TIMESTAMP =
+            DEPTH_DESC.register("metadata", "versioning", "snapshot", "timestamp");
+    private static final int DEPTH_DESC_VERSIONING_SNAPSHOT_BUILD_NUMBER =
+            DEPTH_DESC.register("metadata", "versioning", "snapshot", "buildNumber");
 
+    private String groupId = null;
+    private String artifactId = null;
     private String snapshotTimestamp = null;
     private String snapshotBuildNumber = null;
     private String version = null;
 
     private LocalDateTime lastUpdated = null;
 
+    private final List<String> versions = new ArrayList<>();
+
+    @NotNull
+    public List<String> getVersions() {
+        return versions.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(versions);
+    }
+
     @NotNull
     public LocalDateTime getLastUpdated() {
         return Validation.requireNotNull(lastUpdated, "Last updated must not be null.");
     }
 
+    @Nullable
+    public String getCoordinates() {
+        if (groupId == null || artifactId == null) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner(":").add(groupId).add(artifactId);
+        if (version != null) {
+            joiner.add(version);
+        }
+        return joiner.toString();
+    }
+
     @NotNull
     public String getActualVersion() {
         Validation.notNull(version, "Version must not be null.");
@@ -78,17 +120,38 @@ final class SimpleMetadata extends DepthDescriptionHandler {
         return version + VERSION_DELIMITER + snapshotTimestamp + VERSION_DELIMITER + snapshotBuildNumber;
     }
 
-    private SimpleMetadata() {}
+    private SimpleMetadata() {
+        super(DEPTH_DESC);
+    }
+
+    @Override
+    protected boolean isTextRequired() {
+        int state = currentState();
+        return state == DEPTH_DESC_GROUP_ID
+                || state == DEPTH_DESC_ARTIFACT_ID
+                || state == DEPTH_DESC_VERSION
+                || state == DEPTH_DESC_VERSIONING_VERSION
+                || state == DEPTH_DESC_VERSIONING_LAST_UPDATED
+                || state == DEPTH_DESC_VERSIONING_SNAPSHOT_TIMESTAMP
+                || state == DEPTH_DESC_VERSIONING_SNAPSHOT_BUILD_NUMBER;
+    }
 
-    public void characters(char[] ch, int start, int length) throws SAXException {
-        if (isMatched(DEPTH_DESC_VERSION)) {
-            this.version = new String(ch, start, length);
+    @Override
+    protected void onText(@NotNull String text) throws SAXException {
+        if (isMatched(DEPTH_DESC_GROUP_ID)) {
+            this.groupId = text;
+        } else if (isMatched(DEPTH_DESC_ARTIFACT_ID)) {
+            this.artifactId = text;
+        } else if (isMatched(DEPTH_DESC_VERSION)) {
+            this.version = text;
+        } else if (isMatched(DEPTH_DESC_VERSIONING_VERSION)) {
+            versions.add(text);
         } else if (isMatched(DEPTH_DESC_VERSIONING_LAST_UPDATED)) {
-            this.lastUpdated = LocalDateTime.parse(new String(ch, start, length), LAST_UPDATED_FORMATER);
+            this.lastUpdated = LocalDateTime.parse(text, LAST_UPDATED_FORMATER);
         } else if (isMatched(DEPTH_DESC_VERSIONING_SNAPSHOT_TIMESTAMP)) {
-            this.snapshotTimestamp = new String(ch, start, length);
+            this.snapshotTimestamp = text;
         } else if (isMatched(DEPTH_DESC_VERSIONING_SNAPSHOT_BUILD_NUMBER)) {
-            this.snapshotBuildNumber = new String(ch, start, length);
+            this.snapshotBuildNumber = text;
         }
     }
 }
@@ -0,0 +1,148 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.function.Consumer;
+import lombok.Data;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+@Data
+final class SimpleMetadataStatus {
+
+    private static final String STATUS_FILE_NAME = "resolver-status.properties";
+    private static final String ETAG_SUFFIX = ".etag";
+    private static final String LAST_MODIFIED_SUFFIX = ".lastModified";
+    private static final String LAST_UPDATED_SUFFIX = ".lastUpdated";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final Object LOCK = new Object();
+
+    @NotNull
+    public static SimpleMetadataStatus read(@NotNull File metadataFile) {
+        Validation.notNull(metadataFile, "Metadata file must not be null.");
+        SimpleMetadataStatus status = new SimpleMetadataStatus();
+        if (!metadataFile.isFile()) {
+            return status;
+        }
+        Properties properties = load(new File(metadataFile.getParentFile(), STATUS_FILE_NAME));
+        String name = metadataFile.getName();
+        status.setEtag(properties.getProperty(name + ETAG_SUFFIX));
+        status.setLastModified(parseLong(properties.getProperty(name + LAST_MODIFIED_SUFFIX)));
+        status.setLastUpdated(parseLong(properties.getProperty(name + LAST_UPDATED_SUFFIX)));
+        return status;
+    }
+
+    @Nullable
+    public static String readSnapshot(@NotNull File file) {
+        Validation.notNull(file, "File must not be null.");
+        if (!file.isFile()) {
+            return null;
+        }
+        return load(new File(file.getParentFile(), STATUS_FILE_NAME)).getProperty(file.getName() + SNAPSHOT_SUFFIX);
+    }
+
+    public static void writeSnapshot(@NotNull File file, @NotNull String snapshot) {
+        Validation.notNull(file, "File must not be null.");
+        Validation.notNull(snapshot, "Snapshot must not be null.");
+        store(file, properties -> properties.setProperty(file.getName() + SNAPSHOT_SUFFIX, snapshot));
+    }
+
+    private static void store(@NotNull File file, @NotNull Consumer<Properties> updater) {
+        File directory = file.getParentFile();
+        if (directory == null || !directory.isDirectory()) {
+            return;
+        }
+        File statusFile = new File(directory, STATUS_FILE_NAME);
+        synchronized (LOCK) {
+            Properties properties = load(statusFile);
+            updater.accept(properties);
+            try {
+                Path temporaryFile = Files.createTempFile(directory.toPath(), STATUS_FILE_NAME, ".tmp");
+                try {
+                    try (OutputStream output = Files.newOutputStream(temporaryFile)) {
+                        properties.store(output, null);
+                    }
+                    Files.move(temporaryFile, statusFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(temporaryFile);
+                }
+            } catch (IOException e) {
+                Log.warn(String.format("Failed to save status file '%s': %s", statusFile, e.getMessage()));
+            }
+        }
+    }
+
+    private static long parseLong(@Nullable String value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    @NotNull
+    private static Properties load(@NotNull File statusFile) {
+        Properties properties = new Properties();
+        if (!statusFile.isFile()) {
+            return properties;
+        }
+        try (InputStream input = Files.newInputStream(statusFile.toPath())) {
+            properties.load(input);
+        } catch (IOException e) {
+            Log.debug(() -> String.format("Ignored unreadable status file '%s': %s", statusFile, e.getMessage()));
+        }
+        return properties;
+    }
+
+    @Nullable
+    private String etag;
+
+    private long lastModified;
+
+    private long lastUpdated;
+
+    public boolean isUpdated() {
+        return lastUpdated > 0L;
+    }
+
+    public void write(@NotNull File metadataFile) {
+        Validation.notNull(metadataFile, "Metadata file must not be null.");
+        String name = metadataFile.getName();
+        store(metadataFile, properties -> {
+            if (etag == null) {
+                properties.remove(name + ETAG_SUFFIX);
+            } else {
+                properties.setProperty(name + ETAG_SUFFIX, etag);
+            }
+            properties.setProperty(name + LAST_MODIFIED_SUFFIX, Long.toString(lastModified));
+            properties.setProperty(name + LAST_UPDATED_SUFFIX, Long.toString(lastUpdated));
+        });
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.util.Set;
+import java.util.concurrent.Future;
+import lombok.Data;
+
+@Data
+final class SimplePendingResolution {
+
+    private final SimpleResolvedDependency dependency;
+
+    private final SimpleCoordinate cacheKey;
+
+    private final boolean ranged;
+
+    private final Future<SimpleArtifact> artifact;
+
+    private final Set<SimpleResolvedArtifact> result;
+
+    private final SimpleResolutionNode node;
+
+    public boolean isDone() {
+        return result != null;
+    }
+}
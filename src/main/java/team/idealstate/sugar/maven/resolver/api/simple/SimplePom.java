@@ -19,22 +19,25 @@ package team.idealstate.sugar.maven.resolver.api.simple;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.StringJoiner;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParserFactory;
 import org.xml.sax.SAXException;
+import team.idealstate.sugar.io.CountingInputStream;
+import team.idealstate.sugar.jfr.Jfr;
+import team.idealstate.sugar.jfr.ParseEvent;
 import team.idealstate.sugar.maven.resolver.api.DependencyScope;
 import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
 import team.idealstate.sugar.maven.resolver.api.util.DepthDescriptionHandler;
+import team.idealstate.sugar.maven.resolver.api.util.DepthDescriptionTrie;
+import team.idealstate.sugar.maven.resolver.api.util.SaxParsers;
 import team.idealstate.sugar.validate.Validation;
 import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
 
 final class SimplePom extends DepthDescriptionHandler {
 
@@ -43,25 +46,55 @@ final class SimplePom extends DepthDescriptionHandler {
             @NotNull SimpleDependencyResolver dependencyResolver, @NotNull InputStream inputStream) {
         Validation.requireNotNull(dependencyResolver, "Dependency resolver must not be null.");
         Validation.requireNotNull(inputStream, "Input stream must not be null.");
-        try (InputStream input = inputStream) {
+        ParseEvent event = Jfr.pomParse();
+        event.begin();
+        try (InputStream input = event.isEnabled() ? new CountingInputStream(inputStream) : inputStream) {
             SimplePom handler = new SimplePom(dependencyResolver);
-            SAXParserFactory.newInstance().newSAXParser().parse(input, handler);
+            SaxParsers.parse(input, handler);
+            event.end();
+            if (event.shouldCommit()) {
+                if (input instanceof CountingInputStream) {
+                    event.setBytes(((CountingInputStream) input).getCount());
+                }
+                event.setCoordinates(handler.getCoordinates());
+                event.setEntries(handler.dependencies.size());
+                event.commit();
+            }
             return handler;
         } catch (IOException | SAXException | ParserConfigurationException e) {
             throw new MavenResolutionException(e);
         }
     }
 
-    private static final Pattern PROPERTY_PATTERN = Pattern.compile("\\$\\{([^}]+)}");
-
-    private static final List<String> DEPTH_DESC_PROPERTY =
-            Collections.unmodifiableList(Arrays.asList("project", "properties"));
-
-    private static final List<String> DEPTH_DESC_DEPENDENCY =
-            Collections.unmodifiableList(Arrays.asList("project", "dependencies", "dependency"));
+    private static final DepthDescriptionTrie DEPTH_DESC = new DepthDescriptionTrie();
+    private static final int DEPTH_DESC_PROJECT_GROUP_ID = DEPTH_DESC.register("project", "groupId");
+    private static final int DEPTH_DESC_PROJECT_ARTIFACT_ID = DEPTH_DESC.register("project", "artifactId");
+    private static final int DEPTH_DESC_PROJECT_VERSION = DEPTH_DESC.register("project", "version");
+    private static final int DEPTH_DESC_PARENT_GROUP_ID = DEPTH_DESC.register("project", "parent", "groupId");
+    private static final int DEPTH_DESC_PARENT_VERSION = DEPTH_DESC.register("project", "parent", "version");
+    private static final int DEPTH_DESC_PROPERTY = DEPTH_DESC.register("project", "properties");
+    private static final int DEPTH_DESC_DEPENDENCY = DEPTH_DESC.register("project", "dependencies", "dependency");
+    private static final int DEPTH_DESC_DEPENDENCY_GROUP_ID =
+            DEPTH_DESC.register("project", "dependencies", "dependency", "groupId");
+    private static final int DEPTH_DESC_DEPENDENCY_ARTIFACT_ID =
+            DEPTH_DESC.register("project", "dependencies", "dependency", "artifactId");
+    private static final int DEPTH_DESC_DEPENDENCY_EXTENSION =
+            DEPTH_DESC.register("project", "dependencies", "dependency", "extension");
+    private static final int DEPTH_DESC_DEPENDENCY_CLASSIFIER =
+            DEPTH_DESC.register("project", "dependencies", "dependency", "classifier");
+    private static final int DEPTH_DESC_DEPENDENCY_VERSION =
+            DEPTH_DESC.register("project", "dependencies", "dependency", "version");
+    private static final int DEPTH_DESC_DEPENDENCY_SCOPE =
+            DEPTH_DESC.register("project", "dependencies", "dependency", "scope");
 
     private final SimpleDependencyResolver dependencyResolver;
 
+    private String projectGroupId = null;
+    private String projectArtifactId = null;
+    private String projectVersion = null;
+    private String parentGroupId = null;
+    private String parentVersion = null;
+
     private String groupId = null;
     private String artifactId = null;
     private String extension = null;
@@ -71,49 +104,90 @@ final class SimplePom extends DepthDescriptionHandler {
 
     private final Map<String, String> properties = new LinkedHashMap<>();
 
+    @Nullable
+    public String getCoordinates() {
+        String groupId = projectGroupId == null ? parentGroupId : projectGroupId;
+        String version = projectVersion == null ? parentVersion : projectVersion;
+        if (groupId == null || projectArtifactId == null || version == null) {
+            return null;
+        }
+        return new StringJoiner(dependencyResolver.getIdDelimiter())
+                .add(groupId)
+                .add(projectArtifactId)
+                .add(version)
+                .toString();
+    }
+
     @NotNull
     public Map<String, String> getProperties() {
         return properties.isEmpty() ? Collections.emptyMap() : new LinkedHashMap<>(properties);
     }
 
     private final List<SimpleDependency> dependencies = new ArrayList<>();
+    private List<SimpleDependency> interpolatedDependencies = null;
 
     @NotNull
     public List<SimpleDependency> getDependencies() {
-        Map<String, String> properties = getProperties();
-        return dependencies.isEmpty()
-                ? Collections.emptyList()
-                : dependencies.stream()
-                        .map(it -> {
-                            String itVersion = it.getVersion();
-                            Matcher matcher = PROPERTY_PATTERN.matcher(itVersion);
-                            if (matcher.matches()) {
-                                matcher = PROPERTY_PATTERN.matcher(itVersion);
-                                StringBuffer sb = new StringBuffer();
-                                while (matcher.find()) {
-                                    String key = matcher.group(1);
-                                    String replacement = properties.get(key);
-                                    if (replacement != null) {
-                                        matcher.appendReplacement(sb, replacement);
-                                    } else {
-                                        matcher.appendReplacement(sb, matcher.group(0));
-                                    }
-                                }
-                                matcher.appendTail(sb);
-                                String resolvedVersion = sb.toString();
-                                return dependencyResolver.resolve(
-                                        it.getGroupId(),
-                                        it.getArtifactId(),
-                                        it.getExtension(),
-                                        it.getClassifier(),
-                                        resolvedVersion);
-                            }
-                            return it;
-                        })
-                        .collect(Collectors.toList());
+        List<SimpleDependency> interpolatedDependencies = this.interpolatedDependencies;
+        if (interpolatedDependencies == null) {
+            interpolatedDependencies = interpolateDependencies();
+            this.interpolatedDependencies = interpolatedDependencies;
+        }
+        return interpolatedDependencies;
+    }
+
+    @NotNull
+    private Map<String, String> getInterpolationProperties() {
+        Map<String, String> properties = new HashMap<>(this.properties.size() + 8);
+        properties.putAll(this.properties);
+        String groupId = projectGroupId == null ? parentGroupId : projectGroupId;
+        String version = projectVersion == null ? parentVersion : projectVersion;
+        putIfNotNull(properties, "project.groupId", groupId);
+        putIfNotNull(properties, "project.artifactId", projectArtifactId);
+        putIfNotNull(properties, "project.version", version);
+        putIfNotNull(properties, "project.parent.groupId", parentGroupId);
+        putIfNotNull(properties, "project.parent.version", parentVersion);
+        return properties;
+    }
+
+    private static void putIfNotNull(@NotNull Map<String, String> properties, @NotNull String key, String value) {
+        if (value != null) {
+            properties.put(key, value);
+        }
+    }
+
+    @NotNull
+    private List<SimpleDependency> interpolateDependencies() {
+        if (dependencies.isEmpty()) {
+            return Collections.emptyList();
+        }
+        SimpleInterpolator interpolator = null;
+        List<SimpleDependency> interpolatedDependencies = new ArrayList<>(dependencies.size());
+        for (SimpleDependency dependency : dependencies) {
+            if (!SimpleInterpolator.isTemplate(dependency.getGroupId())
+                    && !SimpleInterpolator.isTemplate(dependency.getArtifactId())
+                    && !SimpleInterpolator.isTemplate(dependency.getExtension())
+                    && !SimpleInterpolator.isTemplate(dependency.getClassifier())
+                    && !SimpleInterpolator.isTemplate(dependency.getVersion())) {
+                interpolatedDependencies.add(dependency);
+                continue;
+            }
+            if (interpolator == null) {
+                interpolator = new SimpleInterpolator(getInterpolationProperties());
+            }
+            interpolatedDependencies.add(dependencyResolver.resolve(
+                    interpolator.interpolate(dependency.getGroupId()),
+                    interpolator.interpolate(dependency.getArtifactId()),
+                    interpolator.interpolate(dependency.getExtension()),
+                    interpolator.interpolate(dependency.getClassifier()),
+                    interpolator.interpolate(dependency.getVersion()),
+                    dependency.getScope()));
+        }
+        return Collections.unmodifiableList(interpolatedDependencies);
     }
 
     private SimplePom(@NotNull SimpleDependencyResolver dependencyResolver) {
+        super(DEPTH_DESC);
         Validation.notNull(dependencyResolver, "Dependency resolver must not be null.");
         this.dependencyResolver = dependencyResolver;
     }
@@ -137,30 +211,54 @@ final class SimplePom extends DepthDescriptionHandler {
         super.endElement(uri, localName, qName);
     }
 
-    public void characters(char[] ch, int start, int length) throws SAXException {
-        if (isParentMatched(DEPTH_DESC_PROPERTY)) {
-            properties.put(currentQName(), new String(ch, start, length));
-        } else if (isParentMatched(DEPTH_DESC_DEPENDENCY)) {
-            switch (currentQName()) {
-                case "groupId":
-                    groupId = new String(ch, start, length);
-                    break;
-                case "artifactId":
-                    artifactId = new String(ch, start, length);
-                    break;
-                case "extension":
-                    extension = new String(ch, start, length);
-                    break;
-                case "classifier":
-                    classifier = new String(ch, start, length);
-                    break;
-                case "version":
-                    version = new String(ch, start, length);
-                    break;
-                case "scope":
-                    scope = new String(ch, start, length);
-                    break;
+    @Override
+    protected boolean isTextRequired() {
+        int state = currentState();
+        if (state == DepthDescriptionTrie.NONE) {
+            return isParentMatched(DEPTH_DESC_PROPERTY);
+        }
+        return state == DEPTH_DESC_PROJECT_GROUP_ID
+                || state == DEPTH_DESC_PROJECT_ARTIFACT_ID
+                || state == DEPTH_DESC_PROJECT_VERSION
+                || state == DEPTH_DESC_PARENT_GROUP_ID
+                || state == DEPTH_DESC_PARENT_VERSION
+                || state == DEPTH_DESC_DEPENDENCY_GROUP_ID
+                || state == DEPTH_DESC_DEPENDENCY_ARTIFACT_ID
+                || state == DEPTH_DESC_DEPENDENCY_EXTENSION
+                || state == DEPTH_DESC_DEPENDENCY_CLASSIFIER
+                || state == DEPTH_DESC_DEPENDENCY_VERSION
+                || state == DEPTH_DESC_DEPENDENCY_SCOPE;
+    }
+
+    @Override
+    protected void onText(@NotNull String text) throws SAXException {
+        int state = currentState();
+        if (state == DepthDescriptionTrie.NONE) {
+            if (isParentMatched(DEPTH_DESC_PROPERTY)) {
+                properties.put(currentQName(), text);
             }
+        } else if (state == DEPTH_DESC_PROJECT_GROUP_ID) {
+            this.projectGroupId = text;
+        } else if (state == DEPTH_DESC_PROJECT_ARTIFACT_ID) {
+            this.projectArtifactId = text;
+        } else if (state == DEPTH_DESC_PROJECT_VERSION) {
+            this.projectVersion = text;
+        } else if (state == DEPTH_DESC_PARENT_GROUP_ID) {
+            this.parentGroupId = text;
+        } else if (state == DEPTH_DESC_PARENT_VERSION) {
+            this.parentVersion = text;
+        } else if (state == DEPTH_DESC_DEPENDENCY_GROUP_ID) {
+            this.groupId = text;
+        } else if (state == DEPTH_DESC_DEPENDENCY_ARTIFACT_ID) {
+            this.artifactId = text;
+        } else if (state == DEPTH_DESC_DEPENDENCY_EXTENSION) {
+            this.extension = text;
+        } else if (state == DEPTH_DESC_DEPENDENCY_CLASSIFIER) {
+            this.classifier = text;
+        } else if (state == DEPTH_DESC_DEPENDENCY_VERSION) {
+            this.version = text;
+        } else if (state == DEPTH_DESC_DEPENDENCY_SCOPE) {
+            this.scope = text;
         }
     }
 }
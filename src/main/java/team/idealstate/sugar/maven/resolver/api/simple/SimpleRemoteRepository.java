@@ -23,12 +23,55 @@ import lombok.NonNull;
 import lombok.ToString;
 import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
 import team.idealstate.sugar.maven.resolver.api.RepositoryPolicy;
+import team.idealstate.sugar.validate.annotation.Nullable;
 
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
 final class SimpleRemoteRepository extends AbstractSimpleRepository implements RemoteRepository {
 
+    private final int maxConnections;
+    private final long bandwidth;
+    private final URI index;
+
     public SimpleRemoteRepository(@NonNull String name, @NonNull URI url, @NonNull List<RepositoryPolicy> policies) {
+        this(name, url, policies, 0, 0L);
+    }
+
+    public SimpleRemoteRepository(
+            @NonNull String name,
+            @NonNull URI url,
+            @NonNull List<RepositoryPolicy> policies,
+            int maxConnections,
+            long bandwidth) {
+        this(name, url, policies, maxConnections, bandwidth, null);
+    }
+
+    public SimpleRemoteRepository(
+            @NonNull String name,
+            @NonNull URI url,
+            @NonNull List<RepositoryPolicy> policies,
+            int maxConnections,
+            long bandwidth,
+            @Nullable URI index) {
         super(name, url, policies);
+        this.maxConnections = maxConnections;
+        this.bandwidth = bandwidth;
+        this.index = index;
+    }
+
+    @Override
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public long getBandwidth() {
+        return bandwidth;
+    }
+
+    @Nullable
+    @Override
+    public URI getIndex() {
+        return index;
     }
 }
@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class SimpleRepositoryIndex {
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final String LOCATION_BASE_DELIMITER = "/";
+    private static final String LOCATION_NAME_DELIMITER = "-";
+    private static final String POM_FILE_SUFFIX = ".pom";
+
+    public static final SimpleRepositoryIndex UNAVAILABLE =
+            new SimpleRepositoryIndex(Collections.emptySet(), Collections.emptyMap());
+
+    @NotNull
+    public static SimpleRepositoryIndex parse(@NotNull InputStream inputStream) throws IOException {
+        Validation.notNull(inputStream, "Input stream must not be null.");
+        Set<String> paths = new HashSet<>();
+        Map<String, Set<String>> versions = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String path = line.trim();
+                if (path.isEmpty() || path.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                while (path.startsWith(LOCATION_BASE_DELIMITER)) {
+                    path = path.substring(1);
+                }
+                if (!paths.add(path) || !path.endsWith(POM_FILE_SUFFIX)) {
+                    continue;
+                }
+                int fileIndex = path.lastIndexOf(LOCATION_BASE_DELIMITER);
+                int versionIndex = fileIndex > 0 ? path.lastIndexOf(LOCATION_BASE_DELIMITER, fileIndex - 1) : -1;
+                int artifactIndex =
+                        versionIndex > 0 ? path.lastIndexOf(LOCATION_BASE_DELIMITER, versionIndex - 1) : -1;
+                if (versionIndex <= 0) {
+                    continue;
+                }
+                String artifactId = path.substring(artifactIndex + 1, versionIndex);
+                if (!path.startsWith(artifactId + LOCATION_NAME_DELIMITER, fileIndex + 1)) {
+                    continue;
+                }
+                versions.computeIfAbsent(path.substring(0, versionIndex + 1), it -> new LinkedHashSet<>())
+                        .add(path.substring(versionIndex + 1, fileIndex));
+            }
+        }
+        return new SimpleRepositoryIndex(paths, versions);
+    }
+
+    private final Set<String> paths;
+    private final Map<String, Set<String>> versions;
+
+    private SimpleRepositoryIndex(@NotNull Set<String> paths, @NotNull Map<String, Set<String>> versions) {
+        this.paths = paths;
+        this.versions = versions;
+    }
+
+    public boolean contains(@NotNull String path) {
+        Validation.notNull(path, "Path must not be null.");
+        return paths.contains(path);
+    }
+
+    @NotNull
+    public List<String> getVersions(@NotNull String artifactParentPath) {
+        Validation.notNull(artifactParentPath, "Artifact parent path must not be null.");
+        Set<String> versions = this.versions.get(artifactParentPath);
+        return versions == null ? Collections.emptyList() : new ArrayList<>(versions);
+    }
+
+    public int size() {
+        return paths.size();
+    }
+}
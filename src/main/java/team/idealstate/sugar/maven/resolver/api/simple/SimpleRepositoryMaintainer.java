@@ -0,0 +1,323 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.maven.resolver.api.LocalRepository;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class SimpleRepositoryMaintainer {
+
+    private static final String ACCESS_FILE_NAME = ".sugar-access";
+    private static final String EVICTING_SUFFIX = ".sugar-evicting";
+    private static final String LOCATION_BASE_DELIMITER = "/";
+    private static final String LOCATION_NAME_DELIMITER = "-";
+    private static final Map<File, SimpleRepositoryMaintainer> MAINTAINERS = new ConcurrentHashMap<>();
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sugar-repository-maintainer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Nullable
+    public static SimpleRepositoryMaintainer of(@NotNull LocalRepository repository) {
+        Validation.notNull(repository, "Repository must not be null.");
+        long maxSize = repository.getMaxSize();
+        if (maxSize <= 0) {
+            return null;
+        }
+        SimpleRepositoryMaintainer maintainer = MAINTAINERS.computeIfAbsent(
+                repository.getLocation().getAbsoluteFile(), SimpleRepositoryMaintainer::new);
+        maintainer.maxSize = maxSize;
+        return maintainer;
+    }
+
+    private final File location;
+    private final Set<String> referenced = ConcurrentHashMap.newKeySet();
+    private final Set<String> touched = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> accessTimes = new ConcurrentHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final Map<String, Entry> entries = new HashMap<>();
+    private volatile long maxSize = 0L;
+    private long totalSize = 0L;
+    private boolean loaded = false;
+
+    private SimpleRepositoryMaintainer(@NotNull File location) {
+        this.location = location;
+    }
+
+    public void touch(@NotNull File file) {
+        Validation.notNull(file, "File must not be null.");
+        String versionPath = relativize(file.getAbsoluteFile().getParentFile());
+        if (versionPath == null) {
+            return;
+        }
+        referenced.add(versionPath);
+        accessTimes.put(versionPath, System.currentTimeMillis());
+        touched.add(versionPath);
+    }
+
+    public void schedule() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        EXECUTOR.execute(() -> {
+            scheduled.set(false);
+            try {
+                maintain();
+            } catch (Throwable e) {
+                Log.warn(String.format("Failed to maintain local repository '%s': %s", location, e.getMessage()));
+            }
+        });
+    }
+
+    private synchronized void maintain() throws IOException {
+        if (!loaded) {
+            loadAccessTimes();
+            touched.clear();
+            scan(location);
+            loaded = true;
+        } else {
+            Iterator<String> iterator = touched.iterator();
+            while (iterator.hasNext()) {
+                String versionPath = iterator.next();
+                iterator.remove();
+                update(versionPath, new File(location, versionPath));
+            }
+        }
+        if (totalSize > maxSize) {
+            evict();
+        }
+        saveAccessTimes();
+    }
+
+    private void scan(@NotNull File directory) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        if (isVersionDirectory(directory, files)) {
+            String versionPath = relativize(directory);
+            if (versionPath != null) {
+                update(versionPath, directory);
+            }
+            return;
+        }
+        for (File file : files) {
+            if (!file.isDirectory()) {
+                continue;
+            }
+            if (file.getName().endsWith(EVICTING_SUFFIX)) {
+                purge(file);
+            } else {
+                scan(file);
+            }
+        }
+    }
+
+    private void update(@NotNull String versionPath, @NotNull File directory) {
+        Entry previous = entries.remove(versionPath);
+        if (previous != null) {
+            totalSize -= previous.size;
+        }
+        File[] files = directory.listFiles(File::isFile);
+        if (files == null || files.length == 0) {
+            return;
+        }
+        long size = 0L;
+        for (File file : files) {
+            size += file.length();
+        }
+        Entry entry = new Entry(versionPath, size, SimpleVersion.isSnapshot(directory.getName()));
+        entries.put(versionPath, entry);
+        totalSize += size;
+    }
+
+    private void evict() {
+        List<Entry> candidates = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            if (!referenced.contains(entry.versionPath)) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort(Comparator.comparingLong((Entry entry) -> lastAccess(entry.versionPath))
+                .thenComparing(entry -> !entry.snapshot));
+        long evictedSize = 0L;
+        int evicted = 0;
+        for (Entry entry : candidates) {
+            if (totalSize <= maxSize) {
+                break;
+            }
+            if (delete(new File(location, entry.versionPath))) {
+                entries.remove(entry.versionPath);
+                accessTimes.remove(entry.versionPath);
+                totalSize -= entry.size;
+                evictedSize += entry.size;
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            Log.info(String.format(
+                    "Evicted %d versions (%d bytes) from local repository '%s'.", evicted, evictedSize, location));
+        }
+        if (totalSize > maxSize) {
+            Log.warn(String.format(
+                    "Local repository '%s' is %d bytes, over its limit of %d bytes, "
+                            + "but the remaining versions are in use.",
+                    location, totalSize, maxSize));
+        }
+    }
+
+    private long lastAccess(@NotNull String versionPath) {
+        Long accessTime = accessTimes.get(versionPath);
+        return accessTime == null ? new File(location, versionPath).lastModified() : accessTime;
+    }
+
+    private boolean delete(@NotNull File directory) {
+        File evicting = new File(directory.getParentFile(), directory.getName() + EVICTING_SUFFIX);
+        try {
+            Files.move(directory.toPath(), evicting.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Log.debug(() -> String.format("Failed to evict '%s': %s", directory, e.getMessage()));
+            return false;
+        }
+        purge(evicting);
+        File parent = directory.getParentFile();
+        while (parent != null && !parent.equals(location)) {
+            String[] children = parent.list();
+            if (children == null || children.length != 0 || !parent.delete()) {
+                break;
+            }
+            parent = parent.getParentFile();
+        }
+        return true;
+    }
+
+    private static void purge(@NotNull File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                purge(child);
+            }
+        }
+        if (!file.delete()) {
+            Log.debug(() -> String.format("Failed to delete '%s'.", file));
+        }
+    }
+
+    private void loadAccessTimes() throws IOException {
+        File accessFile = new File(location, ACCESS_FILE_NAME);
+        if (!accessFile.isFile()) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(accessFile.toPath())) {
+            properties.load(input);
+        }
+        for (String versionPath : properties.stringPropertyNames()) {
+            String accessTime = properties.getProperty(versionPath);
+            try {
+                accessTimes.merge(versionPath, Long.parseLong(accessTime), Math::max);
+            } catch (NumberFormatException ignored) {
+                Log.debug(() -> String.format("Ignored invalid access time '%s' of '%s'.", accessTime, versionPath));
+            }
+        }
+    }
+
+    private void saveAccessTimes() throws IOException {
+        if (!location.isDirectory()) {
+            return;
+        }
+        Properties properties = new Properties();
+        for (Map.Entry<String, Long> entry : accessTimes.entrySet()) {
+            if (entries.containsKey(entry.getKey())) {
+                properties.setProperty(entry.getKey(), Long.toString(entry.getValue()));
+            }
+        }
+        Path accessFile = new File(location, ACCESS_FILE_NAME).toPath();
+        Path temporaryFile = Files.createTempFile(location.toPath(), ACCESS_FILE_NAME, ".tmp");
+        try {
+            try (OutputStream output = Files.newOutputStream(temporaryFile)) {
+                properties.store(output, null);
+            }
+            Files.move(temporaryFile, accessFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    @Nullable
+    private String relativize(@Nullable File directory) {
+        if (directory == null) {
+            return null;
+        }
+        Path root = location.toPath().normalize();
+        Path path = directory.toPath().normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            return null;
+        }
+        return root.relativize(path).toString().replace(File.separator, LOCATION_BASE_DELIMITER);
+    }
+
+    private static boolean isVersionDirectory(@NotNull File directory, @NotNull File[] files) {
+        File parent = directory.getParentFile();
+        if (parent == null) {
+            return false;
+        }
+        String prefix = parent.getName() + LOCATION_NAME_DELIMITER + directory.getName();
+        for (File file : files) {
+            if (file.isFile() && file.getName().startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Entry {
+
+        private final String versionPath;
+        private final long size;
+        private final boolean snapshot;
+
+        private Entry(@NotNull String versionPath, long size, boolean snapshot) {
+            this.versionPath = versionPath;
+            this.size = size;
+            this.snapshot = snapshot;
+        }
+    }
+}
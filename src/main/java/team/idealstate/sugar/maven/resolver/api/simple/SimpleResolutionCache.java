@@ -0,0 +1,153 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class SimpleResolutionCache {
+
+    private static final long PERSISTENT = -1L;
+
+    private final int maxSize;
+    private final Map<Key, CachedSubtree> entries;
+
+    public SimpleResolutionCache(int maxSize) {
+        Validation.is(maxSize >= 0, "Max size must be greater than or equal to 0.");
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Key, CachedSubtree>(Math.min(maxSize, 1024), 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedSubtree> eldest) {
+                return size() > SimpleResolutionCache.this.maxSize;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    @Nullable
+    public Set<SimpleResolvedArtifact> get(
+            @NotNull SimpleCoordinate coordinate, @NotNull Set<DependencyScope> scopes, long generation) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Key key = new Key(coordinate, scopes);
+        CachedSubtree entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (entry.generation != PERSISTENT && entry.generation != generation) {
+            remove(key, entry);
+            return null;
+        }
+        for (SimpleResolvedArtifact artifact : entry.artifacts) {
+            if (!artifact.getFile().isFile()) {
+                remove(key, entry);
+                return null;
+            }
+        }
+        return entry.artifacts;
+    }
+
+    public void put(
+            @NotNull SimpleCoordinate coordinate,
+            @NotNull Set<DependencyScope> scopes,
+            @NotNull Set<SimpleResolvedArtifact> artifacts,
+            boolean always,
+            long generation) {
+        if (!isEnabled()) {
+            return;
+        }
+        Key key = new Key(coordinate, scopes);
+        CachedSubtree entry = new CachedSubtree(
+                Collections.unmodifiableSet(new LinkedHashSet<>(artifacts)), always ? generation : PERSISTENT);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void remove(@NotNull Key key, @NotNull CachedSubtree entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private static final class Key {
+        private final SimpleCoordinate coordinate;
+        private final int scopes;
+
+        private Key(SimpleCoordinate coordinate, Set<DependencyScope> scopes) {
+            this.coordinate = coordinate;
+            int mask = 0;
+            for (DependencyScope scope : scopes) {
+                mask |= 1 << scope.ordinal();
+            }
+            this.scopes = mask;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return scopes == that.scopes && coordinate.equals(that.coordinate);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * coordinate.hashCode() + scopes;
+        }
+    }
+
+    private static final class CachedSubtree {
+        private final Set<SimpleResolvedArtifact> artifacts;
+        private final long generation;
+
+        private CachedSubtree(Set<SimpleResolvedArtifact> artifacts, long generation) {
+            this.artifacts = artifacts;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.LocalRepository;
+import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
+import team.idealstate.sugar.maven.resolver.api.Repository;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class SimpleResolutionGraph {
+
+    private static final String GRAPH_FILE_NAME = ".sugar-graph";
+    private static final String LOCK_FILE_NAME = ".sugar-graph.lock";
+    private static final String REPOSITORIES_KEY_PREFIX = "repositories.";
+    private static final String ROOT_KEY_PREFIX = "root.";
+    private static final String USED_KEY_PREFIX = "used.";
+    private static final String SIGNATURE_DELIMITER = ".";
+    private static final String SIGNATURE_ALGORITHM = "SHA-1";
+    private static final int SIGNATURE_LENGTH = 16;
+    private static final String SCOPES_DELIMITER = "|";
+    private static final String ARTIFACT_DELIMITER = "\n";
+    private static final String FIELD_DELIMITER = "\t";
+    private static final String LOCATION_BASE_DELIMITER = "/";
+    private static final int FIELD_COUNT = 9;
+    private static final long MAX_AGE = TimeUnit.DAYS.toMillis(30L);
+    private static final long TOUCH_INTERVAL = TimeUnit.DAYS.toMillis(1L);
+    private static final Map<File, Object> LOCKS = new ConcurrentHashMap<>();
+
+    @NotNull
+    public static String makeKey(@NotNull SimpleCoordinate coordinate, @NotNull Set<DependencyScope> scopes) {
+        Validation.notNull(coordinate, "Coordinate must not be null.");
+        Validation.notNull(scopes, "Scopes must not be null.");
+        int mask = 0;
+        for (DependencyScope scope : scopes) {
+            mask |= 1 << scope.ordinal();
+        }
+        return coordinate + SCOPES_DELIMITER + mask;
+    }
+
+    private final File location;
+    private final String repositories;
+    private final String signature;
+    private final Map<String, Repository> repositoriesByName = new HashMap<>();
+    private final Map<String, String> encoded = new HashMap<>();
+    private final Map<String, String> stored = new HashMap<>();
+    private final Map<String, Long> used = new HashMap<>();
+    private final Map<String, Set<SimpleResolvedArtifact>> decoded = new HashMap<>();
+    private final Set<String> updated = new HashSet<>();
+    private final Map<String, String> removed = new HashMap<>();
+    private boolean loaded = false;
+
+    public SimpleResolutionGraph(
+            @NotNull LocalRepository localRepository, @NotNull List<RemoteRepository> remoteRepositories) {
+        Validation.notNull(localRepository, "Local repository must not be null.");
+        Validation.notNull(remoteRepositories, "Remote repositories must not be null.");
+        this.location = localRepository.getLocation().getAbsoluteFile();
+        StringJoiner joiner = new StringJoiner(" ").add(localRepository.getName());
+        repositoriesByName.put(localRepository.getName(), localRepository);
+        for (RemoteRepository remoteRepository : remoteRepositories) {
+            joiner.add(remoteRepository.getName() + "=" + remoteRepository.getUrl());
+            repositoriesByName.putIfAbsent(remoteRepository.getName(), remoteRepository);
+        }
+        this.repositories = joiner.toString();
+        this.signature = makeSignature(repositories);
+    }
+
+    @Nullable
+    public synchronized Set<SimpleResolvedArtifact> get(@NotNull String key) {
+        Validation.notNull(key, "Key must not be null.");
+        load();
+        Set<SimpleResolvedArtifact> artifacts = decoded.get(key);
+        if (artifacts == null) {
+            String value = encoded.get(key);
+            if (value == null) {
+                return null;
+            }
+            artifacts = decode(value);
+            if (artifacts == null) {
+                remove(key);
+                return null;
+            }
+            decoded.put(key, artifacts);
+        }
+        for (SimpleResolvedArtifact artifact : artifacts) {
+            if (!artifact.getFile().isFile()) {
+                remove(key);
+                return null;
+            }
+        }
+        long now = System.currentTimeMillis();
+        Long lastUsed = used.get(key);
+        if (lastUsed == null || now - lastUsed >= TOUCH_INTERVAL) {
+            used.put(key, now);
+            updated.add(key);
+        }
+        return artifacts;
+    }
+
+    public synchronized void put(
+            @NotNull String key, @NotNull Set<SimpleResolvedArtifact> artifacts, boolean persistent) {
+        Validation.notNull(key, "Key must not be null.");
+        Validation.notNull(artifacts, "Artifacts must not be null.");
+        load();
+        if (!persistent) {
+            remove(key);
+            return;
+        }
+        encoded.put(key, encode(artifacts));
+        used.put(key, System.currentTimeMillis());
+        decoded.put(key, Collections.unmodifiableSet(new LinkedHashSet<>(artifacts)));
+        updated.add(key);
+        removed.remove(key);
+    }
+
+    public synchronized void save() {
+        if (updated.isEmpty() && removed.isEmpty() || !location.isDirectory()) {
+            return;
+        }
+        Object lock = LOCKS.computeIfAbsent(location, it -> new Object());
+        synchronized (lock) {
+            try (FileChannel channel = FileChannel.open(
+                            new File(location, LOCK_FILE_NAME).toPath(),
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.WRITE);
+                    FileLock ignored = channel.lock()) {
+                Properties properties = read();
+                merge(properties);
+                write(properties);
+                refresh(properties);
+                updated.clear();
+                removed.clear();
+            } catch (IOException e) {
+                Log.warn(String.format("Failed to save resolution graph of '%s': %s", location, e.getMessage()));
+            }
+        }
+    }
+
+    private void merge(@NotNull Properties properties) {
+        String rootPrefix = ROOT_KEY_PREFIX + signature + SIGNATURE_DELIMITER;
+        String usedPrefix = USED_KEY_PREFIX + signature + SIGNATURE_DELIMITER;
+        if (!repositories.equals(properties.getProperty(REPOSITORIES_KEY_PREFIX + signature))) {
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(rootPrefix) || name.startsWith(usedPrefix)) {
+                    properties.remove(name);
+                }
+            }
+            properties.setProperty(REPOSITORIES_KEY_PREFIX + signature, repositories);
+        }
+        for (Map.Entry<String, String> entry : removed.entrySet()) {
+            String current = properties.getProperty(rootPrefix + entry.getKey());
+            if (entry.getValue().equals(current)) {
+                properties.remove(rootPrefix + entry.getKey());
+                properties.remove(usedPrefix + entry.getKey());
+            }
+        }
+        for (String key : updated) {
+            String value = encoded.get(key);
+            Long lastUsed = used.get(key);
+            if (value == null || lastUsed == null) {
+                continue;
+            }
+            properties.setProperty(rootPrefix + key, value);
+            String previous = properties.getProperty(usedPrefix + key);
+            long previousUsed = previous == null ? 0L : parseTime(previous);
+            properties.setProperty(usedPrefix + key, Long.toString(Math.max(lastUsed, previousUsed)));
+        }
+        prune(properties);
+    }
+
+    private static void prune(@NotNull Properties properties) {
+        long expiry = System.currentTimeMillis() - MAX_AGE;
+        Set<String> signatures = new HashSet<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(ROOT_KEY_PREFIX)) {
+                String rest = name.substring(ROOT_KEY_PREFIX.length());
+                int delimiter = rest.indexOf(SIGNATURE_DELIMITER);
+                String usedValue = delimiter < 0 ? null : properties.getProperty(USED_KEY_PREFIX + rest);
+                if (usedValue == null || parseTime(usedValue) < expiry) {
+                    properties.remove(name);
+                    properties.remove(USED_KEY_PREFIX + rest);
+                } else {
+                    signatures.add(rest.substring(0, delimiter));
+                }
+            }
+        }
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(USED_KEY_PREFIX)) {
+                if (!properties.containsKey(ROOT_KEY_PREFIX + name.substring(USED_KEY_PREFIX.length()))) {
+                    properties.remove(name);
+                }
+            } else if (name.startsWith(REPOSITORIES_KEY_PREFIX)) {
+                if (!signatures.contains(name.substring(REPOSITORIES_KEY_PREFIX.length()))) {
+                    properties.remove(name);
+                }
+            } else if (!name.startsWith(ROOT_KEY_PREFIX)) {
+                properties.remove(name);
+            }
+        }
+    }
+
+    private static long parseTime(@NotNull String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private void remove(@NotNull String key) {
+        encoded.remove(key);
+        String previous = stored.get(key);
+        if (previous != null) {
+            removed.put(key, previous);
+        }
+        used.remove(key);
+        decoded.remove(key);
+        updated.remove(key);
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!new File(location, GRAPH_FILE_NAME).isFile()) {
+            return;
+        }
+        try {
+            refresh(read());
+        } catch (IOException e) {
+            Log.warn(String.format("Failed to load resolution graph of '%s': %s", location, e.getMessage()));
+        }
+    }
+
+    private void refresh(@NotNull Properties properties) {
+        if (!repositories.equals(properties.getProperty(REPOSITORIES_KEY_PREFIX + signature))) {
+            return;
+        }
+        String rootPrefix = ROOT_KEY_PREFIX + signature + SIGNATURE_DELIMITER;
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith(rootPrefix)) {
+                continue;
+            }
+            String key = name.substring(rootPrefix.length());
+            String value = properties.getProperty(name);
+            stored.put(key, value);
+            if (!value.equals(encoded.put(key, value))) {
+                decoded.remove(key);
+            }
+            String usedValue =
+                    properties.getProperty(USED_KEY_PREFIX + signature + SIGNATURE_DELIMITER + key);
+            used.put(key, usedValue == null ? 0L : parseTime(usedValue));
+        }
+    }
+
+    @NotNull
+    private Properties read() throws IOException {
+        Properties properties = new Properties();
+        File graphFile = new File(location, GRAPH_FILE_NAME);
+        if (graphFile.isFile()) {
+            try (InputStream input = Files.newInputStream(graphFile.toPath())) {
+                properties.load(input);
+            }
+        }
+        return properties;
+    }
+
+    private void write(@NotNull Properties properties) throws IOException {
+        Path graphFile = new File(location, GRAPH_FILE_NAME).toPath();
+        Path temporaryFile = Files.createTempFile(location.toPath(), GRAPH_FILE_NAME, ".tmp");
+        try {
+            try (OutputStream output = Files.newOutputStream(temporaryFile)) {
+                properties.store(output, null);
+            }
+            Files.move(temporaryFile, graphFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    @NotNull
+    private static String makeSignature(@NotNull String repositories) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(SIGNATURE_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder builder = new StringBuilder(SIGNATURE_LENGTH);
+        for (byte b : digest.digest(repositories.getBytes(StandardCharsets.UTF_8))) {
+            if (builder.length() >= SIGNATURE_LENGTH) {
+                break;
+            }
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    @NotNull
+    private String encode(@NotNull Set<SimpleResolvedArtifact> artifacts) {
+        StringJoiner joiner = new StringJoiner(ARTIFACT_DELIMITER);
+        for (SimpleResolvedArtifact artifact : artifacts) {
+            joiner.add(new StringJoiner(FIELD_DELIMITER)
+                    .add(artifact.getGroupId())
+                    .add(artifact.getArtifactId())
+                    .add(artifact.getExtension())
+                    .add(artifact.getClassifier())
+                    .add(artifact.getVersion())
+                    .add(artifact.getActualVersion())
+                    .add(artifact.getUpdatedTime().toString())
+                    .add(artifact.getRepository().getName())
+                    .add(relativize(artifact.getFile()))
+                    .toString());
+        }
+        return joiner.toString();
+    }
+
+    @Nullable
+    private Set<SimpleResolvedArtifact> decode(@NotNull String value) {
+        Set<SimpleResolvedArtifact> artifacts = new LinkedHashSet<>();
+        for (String line : value.split(ARTIFACT_DELIMITER)) {
+            String[] fields = line.split(FIELD_DELIMITER, -1);
+            if (fields.length != FIELD_COUNT) {
+                return null;
+            }
+            Repository repository = repositoriesByName.get(fields[7]);
+            if (repository == null) {
+                return null;
+            }
+            LocalDateTime updatedTime;
+            try {
+                updatedTime = LocalDateTime.parse(fields[6]);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+            File file = new File(fields[8]);
+            if (!file.isAbsolute()) {
+                file = new File(location, fields[8]);
+            }
+            artifacts.add(new SimpleResolvedArtifact(
+                    SimpleCoordinate.of(fields[0], fields[1], fields[2], fields[3], fields[4]),
+                    fields[5],
+                    updatedTime,
+                    repository,
+                    Collections.emptyList(),
+                    file));
+        }
+        return Collections.unmodifiableSet(artifacts);
+    }
+
+    @NotNull
+    private String relativize(@NotNull File file) {
+        Path root = location.toPath().normalize();
+        Path path = file.getAbsoluteFile().toPath().normalize();
+        if (!path.startsWith(root)) {
+            return path.toString();
+        }
+        return root.relativize(path).toString().replace(File.separator, LOCATION_BASE_DELIMITER);
+    }
+}
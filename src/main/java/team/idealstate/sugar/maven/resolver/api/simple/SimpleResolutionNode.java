@@ -0,0 +1,101 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.NonNull;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.Repository;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+@Data
+final class SimpleResolutionNode {
+
+    static final String SOURCE_RESOLVED = "resolved";
+    static final String SOURCE_CACHE = "cache";
+    static final String SOURCE_GRAPH = "graph";
+
+    @NonNull
+    private final SimpleCoordinate requested;
+
+    @Nullable
+    private final DependencyScope scope;
+
+    @NonNull
+    private final String source;
+
+    private final List<SimpleResolutionNode> children = new ArrayList<>();
+
+    @Nullable
+    private SimpleCoordinate selected;
+
+    @Nullable
+    private String actualVersion;
+
+    @Nullable
+    private Repository repository;
+
+    @Nullable
+    private Repository artifactRepository;
+
+    private long resolveNanos = -1L;
+
+    private long fetchNanos = -1L;
+
+    @Nullable
+    private String winningVersion;
+
+    @Nullable
+    private MavenResolutionException failure;
+
+    private boolean incomplete;
+
+    private boolean unstable;
+
+    @NotNull
+    public static SimpleResolutionNode of(@NotNull SimpleResolvedArtifact artifact, @NotNull String source) {
+        Validation.notNull(artifact, "Artifact must not be null.");
+        SimpleResolutionNode node = new SimpleResolutionNode(artifact.getCoordinate(), null, source);
+        node.setSelected(artifact.getCoordinate());
+        node.setActualVersion(artifact.getActualVersion());
+        node.setRepository(artifact.getRepository());
+        node.setArtifactRepository(artifact.getRepository());
+        return node;
+    }
+
+    public void resolved(@NotNull SimpleResolvedDependency dependency) {
+        Validation.notNull(dependency, "Dependency must not be null.");
+        setSelected(dependency.getCoordinate());
+        setActualVersion(dependency.getActualVersion());
+        setRepository(dependency.getRepository());
+    }
+
+    public void failed(@NotNull MavenResolutionException failure) {
+        Validation.notNull(failure, "Failure must not be null.");
+        setFailure(failure);
+        setIncomplete(true);
+    }
+
+    public boolean isOmitted() {
+        return selected != null && winningVersion != null && !selected.getVersion().equals(winningVersion);
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Data;
+import lombok.NonNull;
+import team.idealstate.sugar.maven.resolver.api.Repository;
+import team.idealstate.sugar.maven.resolver.api.ResolutionGraph;
+import team.idealstate.sugar.maven.resolver.api.ResolutionGraphFormat;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+@Data
+final class SimpleResolutionReport implements ResolutionGraph {
+
+    @NonNull
+    private final List<SimpleResolutionNode> roots;
+
+    @NonNull
+    private final List<ResolvedArtifact> artifacts;
+
+    private final long elapsedNanos;
+
+    @Override
+    public void export(@NotNull Writer writer, @NotNull ResolutionGraphFormat format)
+            throws MavenResolutionException {
+        try {
+            write(writer, format);
+            writer.flush();
+        } catch (IOException e) {
+            throw new MavenResolutionException(e);
+        }
+    }
+
+    public void write(@NotNull Writer writer, @NotNull ResolutionGraphFormat format) throws IOException {
+        Validation.notNull(writer, "Writer must not be null.");
+        Validation.notNull(format, "Format must not be null.");
+        switch (format) {
+            case JSON:
+                writeJson(writer);
+                break;
+            case DOT:
+                writeDot(writer);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported resolution graph format: " + format);
+        }
+    }
+
+    private void writeJson(@NotNull Writer writer) throws IOException {
+        writer.write("{\"elapsedMillis\":");
+        writer.write(formatMillis(elapsedNanos));
+        writer.write(",\"roots\":[");
+        writeJson(writer, roots);
+        writer.write("]}\n");
+    }
+
+    private static void writeJson(@NotNull Writer writer, @NotNull List<SimpleResolutionNode> nodes)
+            throws IOException {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            SimpleResolutionNode node = nodes.get(i);
+            SimpleCoordinate selected = node.getSelected();
+            writer.write("{\"requested\":");
+            writer.write(quoteJson(node.getRequested().toString()));
+            writer.write(",\"scope\":");
+            writer.write(node.getScope() == null ? "null" : quoteJson(node.getScope().getActualName()));
+            writer.write(",\"source\":");
+            writer.write(quoteJson(node.getSource()));
+            writer.write(",\"version\":");
+            writer.write(selected == null ? "null" : quoteJson(selected.getVersion()));
+            writer.write(",\"actualVersion\":");
+            writer.write(quoteJson(node.getActualVersion()));
+            writer.write(",\"winningVersion\":");
+            writer.write(quoteJson(node.getWinningVersion()));
+            writer.write(",\"omitted\":");
+            writer.write(String.valueOf(node.isOmitted()));
+            writer.write(",\"repository\":");
+            writer.write(quoteJson(nameOf(node.getRepository())));
+            writer.write(",\"artifactRepository\":");
+            writer.write(quoteJson(nameOf(node.getArtifactRepository())));
+            writer.write(",\"resolveMillis\":");
+            writer.write(formatMillis(node.getResolveNanos()));
+            writer.write(",\"fetchMillis\":");
+            writer.write(formatMillis(node.getFetchNanos()));
+            writer.write(",\"failure\":");
+            writer.write(quoteJson(node.getFailure() == null ? null : node.getFailure().getMessage()));
+            writer.write(",\"children\":[");
+            writeJson(writer, node.getChildren());
+            writer.write("]}");
+        }
+    }
+
+    private void writeDot(@NotNull Writer writer) throws IOException {
+        writer.write("digraph resolution {\n");
+        writer.write("    label=");
+        writer.write(quoteDot("resolved in " + formatMillis(elapsedNanos) + " ms"));
+        writer.write(";\n    node [shape=box];\n");
+        AtomicInteger sequence = new AtomicInteger();
+        for (SimpleResolutionNode root : roots) {
+            writeDot(writer, root, sequence);
+        }
+        writer.write("}\n");
+    }
+
+    @NotNull
+    private static String writeDot(
+            @NotNull Writer writer, @NotNull SimpleResolutionNode node, @NotNull AtomicInteger sequence)
+            throws IOException {
+        String id = "n" + sequence.getAndIncrement();
+        SimpleCoordinate selected = node.getSelected();
+        StringBuilder label =
+                new StringBuilder(selected == null ? node.getRequested().toString() : selected.toString());
+        if (selected != null && !selected.getVersion().equals(node.getRequested().getVersion())) {
+            label.append("\nrequested ").append(node.getRequested().getVersion());
+        }
+        if (node.isOmitted()) {
+            label.append("\nomitted for ").append(node.getWinningVersion());
+        }
+        String repository = nameOf(node.getArtifactRepository());
+        if (repository == null) {
+            repository = nameOf(node.getRepository());
+        }
+        if (repository != null) {
+            label.append('\n').append(repository);
+        }
+        if (!SimpleResolutionNode.SOURCE_RESOLVED.equals(node.getSource())) {
+            label.append(" (").append(node.getSource()).append(')');
+        }
+        if (node.getResolveNanos() >= 0L || node.getFetchNanos() >= 0L) {
+            label.append("\nresolve ")
+                    .append(formatMillis(node.getResolveNanos()))
+                    .append(" ms, fetch ")
+                    .append(formatMillis(node.getFetchNanos()))
+                    .append(" ms");
+        }
+        if (node.getFailure() != null) {
+            label.append("\nfailed: ").append(node.getFailure().getMessage());
+        }
+        writer.write("    ");
+        writer.write(id);
+        writer.write(" [label=");
+        writer.write(quoteDot(label.toString()));
+        if (node.getFailure() != null) {
+            writer.write(", color=red");
+        } else if (node.isOmitted()) {
+            writer.write(", style=dashed, color=gray");
+        } else if (!SimpleResolutionNode.SOURCE_RESOLVED.equals(node.getSource())) {
+            writer.write(", style=dotted");
+        }
+        writer.write("];\n");
+        for (SimpleResolutionNode child : node.getChildren()) {
+            String childId = writeDot(writer, child, sequence);
+            writer.write("    ");
+            writer.write(id);
+            writer.write(" -> ");
+            writer.write(childId);
+            if (child.getScope() != null) {
+                writer.write(" [label=");
+                writer.write(quoteDot(child.getScope().getActualName()));
+                writer.write(']');
+            }
+            writer.write(";\n");
+        }
+        return id;
+    }
+
+    @Nullable
+    private static String nameOf(@Nullable Repository repository) {
+        return repository == null ? null : repository.getName();
+    }
+
+    @NotNull
+    private static String formatMillis(long nanos) {
+        return nanos < 0L ? "null" : String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0D);
+    }
+
+    @NotNull
+    private static String quoteJson(@Nullable String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                case '\\':
+                    builder.append('\\').append(c);
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    @NotNull
+    private static String quoteDot(@NotNull String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c == '\n') {
+                builder.append("\\n");
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
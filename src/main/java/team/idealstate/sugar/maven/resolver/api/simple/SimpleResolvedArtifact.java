@@ -50,17 +50,13 @@ final class SimpleResolvedArtifact extends SimpleArtifact
     private final File file;
 
     public SimpleResolvedArtifact(
-            @NonNull String groupId,
-            @NonNull String artifactId,
-            @NonNull String extension,
-            @NonNull String classifier,
-            @NonNull String version,
+            @NonNull SimpleCoordinate coordinate,
             @NonNull String actualVersion,
             @NonNull LocalDateTime updatedTime,
             @NonNull Repository repository,
             @NonNull List<SimpleDependency> dependencies,
             @NonNull File file) {
-        super(groupId, artifactId, extension, classifier, version);
+        super(coordinate);
         this.actualVersion = actualVersion;
         this.updatedTime = updatedTime;
         this.repository = repository;
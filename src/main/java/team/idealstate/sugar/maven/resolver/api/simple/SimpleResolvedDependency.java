@@ -47,17 +47,13 @@ final class SimpleResolvedDependency extends SimpleDependency
     private final List<SimpleDependency> dependencies;
 
     public SimpleResolvedDependency(
-            @NonNull String groupId,
-            @NonNull String artifactId,
-            @NonNull String extension,
-            @NonNull String classifier,
-            @NonNull String version,
+            @NonNull SimpleCoordinate coordinate,
             @NonNull DependencyScope scope,
             @NonNull String actualVersion,
             @NonNull LocalDateTime updatedTime,
             @NonNull Repository repository,
             @NonNull List<SimpleDependency> dependencies) {
-        super(groupId, artifactId, extension, classifier, version, scope);
+        super(coordinate, scope);
         this.actualVersion = actualVersion;
         this.updatedTime = updatedTime;
         this.repository = repository;
@@ -0,0 +1,148 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class SimpleTransferLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final Map<String, SimpleTransferLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    @Nullable
+    public static SimpleTransferLimiter of(@NotNull RemoteRepository repository) {
+        Validation.notNull(repository, "Repository must not be null.");
+        int maxConnections = repository.getMaxConnections();
+        long bandwidth = repository.getBandwidth();
+        if (maxConnections <= 0 && bandwidth <= 0) {
+            return null;
+        }
+        URI url = repository.getUrl();
+        String key = url.getScheme() + "://" + url.getRawAuthority() + "#" + maxConnections + "/" + bandwidth;
+        return LIMITERS.computeIfAbsent(key, it -> new SimpleTransferLimiter(maxConnections, bandwidth));
+    }
+
+    private final Semaphore connections;
+    private final Semaphore bulkConnections;
+    private final long bandwidth;
+    private long tokens;
+    private long refilledAt;
+
+    private SimpleTransferLimiter(int maxConnections, long bandwidth) {
+        this.connections = maxConnections > 0 ? new Semaphore(maxConnections, true) : null;
+        this.bulkConnections = maxConnections > 1 ? new Semaphore(maxConnections - 1, true) : null;
+        this.bandwidth = Math.max(0L, bandwidth);
+        this.tokens = this.bandwidth;
+        this.refilledAt = System.nanoTime();
+    }
+
+    public void acquireConnection(boolean bulk) throws InterruptedException {
+        if (bulk && bulkConnections != null) {
+            bulkConnections.acquire();
+        }
+        if (connections != null) {
+            try {
+                connections.acquire();
+            } catch (InterruptedException e) {
+                if (bulk && bulkConnections != null) {
+                    bulkConnections.release();
+                }
+                throw e;
+            }
+        }
+    }
+
+    public void releaseConnection(boolean bulk) {
+        if (connections != null) {
+            connections.release();
+        }
+        if (bulk && bulkConnections != null) {
+            bulkConnections.release();
+        }
+    }
+
+    public void consume(long bytes) throws InterruptedException {
+        if (bandwidth <= 0 || bytes <= 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long elapsed = Math.min(now - refilledAt, NANOS_PER_SECOND);
+            if (elapsed > 0) {
+                tokens = (long) Math.min((double) bandwidth, tokens + (double) elapsed * bandwidth / NANOS_PER_SECOND);
+            }
+            refilledAt = now;
+            tokens -= bytes;
+            waitNanos = tokens >= 0 ? 0L : (long) (-(double) tokens * NANOS_PER_SECOND / bandwidth);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    @NotNull
+    public InputStream limit(@NotNull InputStream input) {
+        Validation.notNull(input, "Input must not be null.");
+        return new FilterInputStream(input) {
+            @Override
+            public int read() throws IOException {
+                int read = super.read();
+                if (read != -1) {
+                    charge(1L);
+                }
+                return read;
+            }
+
+            @Override
+            public int read(@NotNull byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read > 0) {
+                    charge(read);
+                }
+                return read;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = super.skip(n);
+                charge(skipped);
+                return skipped;
+            }
+
+            private void charge(long bytes) throws InterruptedIOException {
+                try {
+                    consume(bytes);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException(e.getMessage());
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import team.idealstate.sugar.maven.resolver.api.Repository;
+import team.idealstate.sugar.maven.resolver.spi.RepositoryTransport;
+import team.idealstate.sugar.service.ClassLoaderCache;
+import team.idealstate.sugar.service.ServiceLoader;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+abstract class SimpleTransports {
+
+    private static final ClassLoaderCache<List<RepositoryTransport>> TRANSPORTS = new ClassLoaderCache<>();
+
+    @NotNull
+    public static List<RepositoryTransport> of(@Nullable ClassLoader classLoader) {
+        ClassLoader owner = classLoader == null ? SimpleTransports.class.getClassLoader() : classLoader;
+        return TRANSPORTS.get(owner, RepositoryTransport.class.getName(), it -> discover(owner));
+    }
+
+    @NotNull
+    public static RepositoryTransport of(
+            @NotNull List<RepositoryTransport> transports, @NotNull Repository repository, @NotNull URI location) {
+        Validation.notNull(transports, "Transports must not be null.");
+        for (RepositoryTransport transport : transports) {
+            if (transport.isSupported(repository, location)) {
+                return transport;
+            }
+        }
+        throw new UnsupportedOperationException(String.format("No repository transport supports '%s'.", location));
+    }
+
+    public static boolean isShared(@Nullable ClassLoader classLoader, @Nullable ClassLoader sharedClassLoader) {
+        List<RepositoryTransport> transports = of(classLoader);
+        List<RepositoryTransport> sharedTransports = of(sharedClassLoader);
+        return transports == sharedTransports || typesOf(transports).equals(typesOf(sharedTransports));
+    }
+
+    @NotNull
+    private static Set<Class<?>> typesOf(@NotNull List<RepositoryTransport> transports) {
+        Set<Class<?>> types = new HashSet<>(transports.size());
+        for (RepositoryTransport transport : transports) {
+            types.add(transport.getClass());
+        }
+        return types;
+    }
+
+    @NotNull
+    private static List<RepositoryTransport> discover(@NotNull ClassLoader classLoader) {
+        List<RepositoryTransport> transports =
+                new ArrayList<>(ServiceLoader.all(RepositoryTransport.class, classLoader));
+        transports.add(new SimpleFileTransport());
+        transports.add(new SimpleClasspathTransport());
+        transports.add(new SimpleHttpTransport());
+        return Collections.unmodifiableList(transports);
+    }
+
+    static void skipFully(@NotNull InputStream inputStream, long bytes) throws IOException {
+        while (bytes > 0) {
+            long skipped = inputStream.skip(bytes);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of stream.");
+            }
+            bytes -= skipped;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class SimpleVersion implements Comparable<SimpleVersion> {
+
+    private static final String SNAPSHOT_SUFFIX = "-SNAPSHOT";
+    private static final String[] QUALIFIERS = {"alpha", "beta", "milestone", "rc", "snapshot", "", "sp"};
+    private static final int RELEASE_QUALIFIER = 5;
+
+    @NotNull
+    public static SimpleVersion parse(@NotNull String version) {
+        Validation.notNullOrBlank(version, "Version must not be null or blank.");
+        return new SimpleVersion(version);
+    }
+
+    public static boolean isSnapshot(@NotNull String version) {
+        return version.regionMatches(
+                true, version.length() - SNAPSHOT_SUFFIX.length(), SNAPSHOT_SUFFIX, 0, SNAPSHOT_SUFFIX.length());
+    }
+
+    private final String value;
+    private final boolean snapshot;
+    private final boolean[] numeric;
+    private final String[] items;
+    private final int[] qualifiers;
+
+    private SimpleVersion(@NotNull String value) {
+        this.value = value;
+        this.snapshot = isSnapshot(value);
+        List<String> items = new ArrayList<>(4);
+        String lower = value.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int start = 0;
+        for (int i = 0; i <= length; i++) {
+            boolean end = i == length;
+            char ch = end ? '.' : lower.charAt(i);
+            if (ch == '.' || ch == '-' || ch == '_') {
+                if (i > start) {
+                    items.add(lower.substring(start, i));
+                }
+                start = i + 1;
+            } else if (i > start && Character.isDigit(ch) != Character.isDigit(lower.charAt(i - 1))) {
+                items.add(lower.substring(start, i));
+                start = i;
+            }
+        }
+        int size = items.size();
+        this.numeric = new boolean[size];
+        this.items = new String[size];
+        this.qualifiers = new int[size];
+        for (int i = 0; i < size; i++) {
+            String item = items.get(i);
+            if (Character.isDigit(item.charAt(0))) {
+                numeric[i] = true;
+                int zeros = 0;
+                while (zeros < item.length() - 1 && item.charAt(zeros) == '0') {
+                    zeros++;
+                }
+                this.items[i] = item.substring(zeros);
+            } else {
+                boolean followedByDigit = i + 1 < size && Character.isDigit(items.get(i + 1).charAt(0));
+                String qualifier = normalizeQualifier(item, followedByDigit);
+                this.items[i] = qualifier;
+                this.qualifiers[i] = qualifierIndex(qualifier);
+            }
+        }
+    }
+
+    @NotNull
+    private static String normalizeQualifier(@NotNull String qualifier, boolean followedByDigit) {
+        if (followedByDigit && qualifier.length() == 1) {
+            switch (qualifier) {
+                case "a":
+                    return "alpha";
+                case "b":
+                    return "beta";
+                case "m":
+                    return "milestone";
+            }
+        }
+        switch (qualifier) {
+            case "cr":
+                return "rc";
+            case "ga":
+            case "final":
+            case "release":
+                return "";
+            default:
+                return qualifier;
+        }
+    }
+
+    private static int qualifierIndex(@NotNull String qualifier) {
+        for (int i = 0; i < QUALIFIERS.length; i++) {
+            if (QUALIFIERS[i].equals(qualifier)) {
+                return i;
+            }
+        }
+        return QUALIFIERS.length;
+    }
+
+    @NotNull
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public int compareTo(@NotNull SimpleVersion other) {
+        Validation.notNull(other, "Other must not be null.");
+        int size = Math.max(items.length, other.items.length);
+        for (int i = 0; i < size; i++) {
+            int result = compareItem(this, i, other, i);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static int compareItem(@NotNull SimpleVersion left, int i, @NotNull SimpleVersion right, int j) {
+        boolean hasLeft = i < left.items.length;
+        boolean hasRight = j < right.items.length;
+        if (hasLeft && hasRight) {
+            boolean leftNumeric = left.numeric[i];
+            boolean rightNumeric = right.numeric[j];
+            if (leftNumeric && rightNumeric) {
+                return compareNumber(left.items[i], right.items[j]);
+            }
+            if (leftNumeric != rightNumeric) {
+                return leftNumeric ? 1 : -1;
+            }
+            return compareQualifier(left.qualifiers[i], left.items[i], right.qualifiers[j], right.items[j]);
+        }
+        if (hasLeft) {
+            return left.numeric[i]
+                    ? compareNumber(left.items[i], "0")
+                    : compareQualifier(left.qualifiers[i], left.items[i], RELEASE_QUALIFIER, "");
+        }
+        return right.numeric[j]
+                ? compareNumber("0", right.items[j])
+                : compareQualifier(RELEASE_QUALIFIER, "", right.qualifiers[j], right.items[j]);
+    }
+
+    private static int compareNumber(@NotNull String left, @NotNull String right) {
+        if (left.length() != right.length()) {
+            return left.length() < right.length() ? -1 : 1;
+        }
+        return Integer.signum(left.compareTo(right));
+    }
+
+    private static int compareQualifier(int leftIndex, @NotNull String left, int rightIndex, @NotNull String right) {
+        if (leftIndex != rightIndex) {
+            return leftIndex < rightIndex ? -1 : 1;
+        }
+        return leftIndex == QUALIFIERS.length ? Integer.signum(left.compareTo(right)) : 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof SimpleVersion && compareTo((SimpleVersion) other) == 0);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        int size = items.length;
+        while (size > 0 && isPadding(size - 1)) {
+            size--;
+        }
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + (numeric[i] ? items[i].hashCode() : qualifiers[i] * 17 + items[i].hashCode());
+        }
+        return hash;
+    }
+
+    private boolean isPadding(int i) {
+        return numeric[i] ? "0".equals(items[i]) : qualifiers[i] == RELEASE_QUALIFIER;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
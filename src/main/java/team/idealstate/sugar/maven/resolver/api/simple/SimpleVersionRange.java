@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class SimpleVersionRange {
+
+    public static final String LATEST = "LATEST";
+    public static final String RELEASE = "RELEASE";
+    private static final List<Restriction> UNBOUNDED =
+            Collections.singletonList(new Restriction(null, false, null, false));
+
+    public static boolean isRange(@NotNull String version) {
+        Validation.notNull(version, "Version must not be null.");
+        if (version.isEmpty()) {
+            return false;
+        }
+        char first = version.charAt(0);
+        return first == '[' || first == '(' || LATEST.equals(version) || RELEASE.equals(version);
+    }
+
+    @NotNull
+    public static SimpleVersionRange parse(@NotNull String spec) {
+        Validation.notNullOrBlank(spec, "Version range must not be null or blank.");
+        if (LATEST.equals(spec)) {
+            return new SimpleVersionRange(spec, UNBOUNDED, true);
+        }
+        if (RELEASE.equals(spec)) {
+            return new SimpleVersionRange(spec, UNBOUNDED, false);
+        }
+        List<Restriction> restrictions = new ArrayList<>(1);
+        boolean snapshots = false;
+        String remaining = spec.trim();
+        while (!remaining.isEmpty()) {
+            char open = remaining.charAt(0);
+            if (open != '[' && open != '(') {
+                throw new IllegalArgumentException("Invalid version range: " + spec);
+            }
+            int close = indexOfClose(remaining);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unbounded version range: " + spec);
+            }
+            Restriction restriction = Restriction.parse(spec, remaining.substring(0, close + 1));
+            snapshots |= restriction.isSnapshotBound();
+            restrictions.add(restriction);
+            remaining = remaining.substring(close + 1).trim();
+            if (remaining.startsWith(",")) {
+                remaining = remaining.substring(1).trim();
+            }
+        }
+        if (restrictions.isEmpty()) {
+            throw new IllegalArgumentException("Invalid version range: " + spec);
+        }
+        return new SimpleVersionRange(spec, restrictions, snapshots);
+    }
+
+    private static int indexOfClose(@NotNull String range) {
+        int bracket = range.indexOf(']');
+        int parenthesis = range.indexOf(')');
+        if (bracket < 0) {
+            return parenthesis;
+        }
+        if (parenthesis < 0) {
+            return bracket;
+        }
+        return Math.min(bracket, parenthesis);
+    }
+
+    private final String spec;
+    private final List<Restriction> restrictions;
+    private final boolean snapshots;
+
+    private SimpleVersionRange(@NotNull String spec, @NotNull List<Restriction> restrictions, boolean snapshots) {
+        this.spec = spec;
+        this.restrictions = restrictions;
+        this.snapshots = snapshots;
+    }
+
+    public boolean contains(@NotNull SimpleVersion version) {
+        Validation.notNull(version, "Version must not be null.");
+        if (version.isSnapshot() && !snapshots) {
+            return false;
+        }
+        for (Restriction restriction : restrictions) {
+            if (restriction.contains(version)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    public SimpleVersion select(@NotNull List<SimpleVersion> sortedVersions) {
+        Validation.notNull(sortedVersions, "Sorted versions must not be null.");
+        for (int i = sortedVersions.size() - 1; i >= 0; i--) {
+            SimpleVersion version = sortedVersions.get(i);
+            if (contains(version)) {
+                return version;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+
+    private static final class Restriction {
+
+        private final SimpleVersion lower;
+        private final boolean lowerInclusive;
+        private final SimpleVersion upper;
+        private final boolean upperInclusive;
+
+        private Restriction(
+                @Nullable SimpleVersion lower,
+                boolean lowerInclusive,
+                @Nullable SimpleVersion upper,
+                boolean upperInclusive) {
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive;
+            this.upper = upper;
+            this.upperInclusive = upperInclusive;
+        }
+
+        @NotNull
+        static Restriction parse(@NotNull String spec, @NotNull String range) {
+            boolean lowerInclusive = range.charAt(0) == '[';
+            boolean upperInclusive = range.charAt(range.length() - 1) == ']';
+            String body = range.substring(1, range.length() - 1).trim();
+            int comma = body.indexOf(',');
+            if (comma < 0) {
+                if (!lowerInclusive || !upperInclusive || body.isEmpty()) {
+                    throw new IllegalArgumentException("Invalid version range: " + spec);
+                }
+                SimpleVersion version = SimpleVersion.parse(body);
+                return new Restriction(version, true, version, true);
+            }
+            String lower = body.substring(0, comma).trim();
+            String upper = body.substring(comma + 1).trim();
+            return new Restriction(
+                    lower.isEmpty() ? null : SimpleVersion.parse(lower),
+                    lowerInclusive,
+                    upper.isEmpty() ? null : SimpleVersion.parse(upper),
+                    upperInclusive);
+        }
+
+        boolean isSnapshotBound() {
+            return (lower != null && lower.isSnapshot()) || (upper != null && upper.isSnapshot());
+        }
+
+        boolean contains(@NotNull SimpleVersion version) {
+            if (lower != null) {
+                int result = version.compareTo(lower);
+                if (result < 0 || (result == 0 && !lowerInclusive)) {
+                    return false;
+                }
+            }
+            if (upper != null) {
+                int result = version.compareTo(upper);
+                return result < 0 || (result == 0 && upperInclusive);
+            }
+            return true;
+        }
+    }
+}
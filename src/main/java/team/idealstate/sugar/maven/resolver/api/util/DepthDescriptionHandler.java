@@ -16,11 +16,7 @@
 
 package team.idealstate.sugar.maven.resolver.api.util;
 
-import java.util.Collection;
-import java.util.Deque;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.Objects;
+import java.util.Arrays;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
@@ -29,45 +25,94 @@ import team.idealstate.sugar.validate.annotation.NotNull;
 
 public abstract class DepthDescriptionHandler extends DefaultHandler {
 
-    private final Deque<String> depthDescription = new LinkedList<>();
+    private static final int INITIAL_DEPTH = 16;
+
+    private final DepthDescriptionTrie depthDescriptionTrie;
+    private int[] states = new int[INITIAL_DEPTH];
+    private String[] qNames = new String[INITIAL_DEPTH];
+    private int depth = 0;
+    private final StringBuilder text = new StringBuilder(64);
+    private boolean capturing = false;
+
+    protected DepthDescriptionHandler(@NotNull DepthDescriptionTrie depthDescriptionTrie) {
+        Validation.notNull(depthDescriptionTrie, "Depth description trie must not be null.");
+        this.depthDescriptionTrie = depthDescriptionTrie;
+    }
 
     @Override
     public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
         super.startElement(uri, localName, qName, attributes);
-        depthDescription.addLast(qName);
+        if (depth == states.length) {
+            this.states = Arrays.copyOf(states, depth << 1);
+            this.qNames = Arrays.copyOf(qNames, depth << 1);
+        }
+        states[depth] = depthDescriptionTrie.next(currentState(), qName);
+        qNames[depth] = qName;
+        depth++;
+        text.setLength(0);
+        this.capturing = isTextRequired();
     }
 
     @Override
     public void endElement(String uri, String localName, String qName) throws SAXException {
-        depthDescription.removeLast();
+        if (capturing) {
+            this.capturing = false;
+            String text = trimmedText();
+            if (!text.isEmpty()) {
+                onText(text);
+            }
+        }
+        depth--;
+        qNames[depth] = null;
         super.endElement(uri, localName, qName);
     }
 
-    protected final boolean isMatched(@NotNull Collection<String> depthDescription) {
-        Validation.notNull(depthDescription, "Depth cannot be null");
-        if (depthDescription.size() != this.depthDescription.size()) return false;
-        Iterator<String> iterator = this.depthDescription.iterator();
-        for (String qName : depthDescription) {
-            if (!Objects.equals(qName, iterator.next())) {
-                return false;
-            }
+    @Override
+    public final void characters(char[] ch, int start, int length) throws SAXException {
+        if (capturing) {
+            text.append(ch, start, length);
         }
-        return true;
     }
 
-    protected final boolean isParentMatched(@NotNull Collection<String> depthDescription) {
-        Validation.notNull(depthDescription, "Depth cannot be null");
-        if (depthDescription.size() != this.depthDescription.size() - 1) return false;
-        Iterator<String> iterator = this.depthDescription.iterator();
-        for (String qName : depthDescription) {
-            if (!Objects.equals(qName, iterator.next())) {
-                return false;
-            }
+    protected boolean isTextRequired() {
+        return false;
+    }
+
+    protected void onText(@NotNull String text) throws SAXException {}
+
+    @NotNull
+    private String trimmedText() {
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
         }
-        return true;
+        return text.substring(start, end);
+    }
+
+    protected final int currentState() {
+        return depth == 0 ? DepthDescriptionTrie.ROOT : states[depth - 1];
+    }
+
+    protected final int parentState() {
+        if (depth < 2) {
+            return depth == 1 ? DepthDescriptionTrie.ROOT : DepthDescriptionTrie.NONE;
+        }
+        return states[depth - 2];
+    }
+
+    protected final boolean isMatched(int state) {
+        return state != DepthDescriptionTrie.NONE && currentState() == state;
+    }
+
+    protected final boolean isParentMatched(int state) {
+        return state != DepthDescriptionTrie.NONE && parentState() == state;
     }
 
     protected final String currentQName() {
-        return depthDescription.peekLast();
+        return depth == 0 ? null : qNames[depth - 1];
     }
 }
@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public final class DepthDescriptionTrie {
+
+    public static final int NONE = -1;
+    public static final int ROOT = 0;
+
+    private final List<Map<String, Integer>> transitions = new ArrayList<>();
+
+    public DepthDescriptionTrie() {
+        transitions.add(new HashMap<>());
+    }
+
+    public synchronized int register(@NotNull String... depthDescription) {
+        Validation.notNull(depthDescription, "Depth description must not be null.");
+        Validation.is(depthDescription.length != 0, "Depth description must not be empty.");
+        int state = ROOT;
+        for (String qName : depthDescription) {
+            Validation.notNullOrBlank(qName, "Qualified name must not be null or blank.");
+            Map<String, Integer> children = transitions.get(state);
+            Integer next = children.get(qName);
+            if (next == null) {
+                next = transitions.size();
+                transitions.add(new HashMap<>());
+                children.put(qName, next);
+            }
+            state = next;
+        }
+        return state;
+    }
+
+    public int next(int state, @NotNull String qName) {
+        if (state == NONE) {
+            return NONE;
+        }
+        Integer next = transitions.get(state).get(qName);
+        return next == null ? NONE : next;
+    }
+
+    public int size() {
+        return transitions.size();
+    }
+}
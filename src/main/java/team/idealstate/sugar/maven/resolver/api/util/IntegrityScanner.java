@@ -0,0 +1,248 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.maven.resolver.api.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.xml.parsers.ParserConfigurationException;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+import team.idealstate.sugar.maven.exception.MavenException;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+public abstract class IntegrityScanner {
+
+    public static final int MIN_FILE_SIZE = 100;
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * 8;
+    private static final String[] ARCHIVE_EXTENSIONS = {".jar", ".war", ".ear", ".zip", ".aar"};
+    private static final String[] XML_EXTENSIONS = {".pom", ".xml"};
+    private static final String[][] CHECKSUMS = {
+        {".sha512", "SHA-512"}, {".sha256", "SHA-256"}, {".sha1", "SHA-1"}, {".md5", "MD5"}
+    };
+    private static final String[][] SIDECARS = {{".sha1", "SHA-1"}, {".sha256", "SHA-256"}};
+
+    @NotNull
+    public static List<IntegrityIssue> scan(@NotNull File directory) {
+        return scan(directory, Runtime.getRuntime().availableProcessors(), false);
+    }
+
+    @NotNull
+    public static List<IntegrityIssue> scan(@NotNull File directory, int parallelism, boolean deep) {
+        Validation.notNull(directory, "Directory must not be null.");
+        Validation.is(parallelism > 0, "Parallelism must be greater than 0.");
+        List<File> files = new ArrayList<>();
+        collect(directory, files);
+        if (files.isEmpty()) {
+            return Collections.emptyList();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, files.size()), runnable -> {
+            Thread thread = new Thread(runnable, "sugar-integrity-scanner-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<IntegrityIssue>> futures = new ArrayList<>(files.size());
+            for (File file : files) {
+                futures.add(executor.submit(() -> verify(file, deep)));
+            }
+            List<IntegrityIssue> issues = new ArrayList<>();
+            for (Future<IntegrityIssue> future : futures) {
+                IntegrityIssue issue = future.get();
+                if (issue != null) {
+                    issues.add(issue);
+                }
+            }
+            issues.sort(Comparator.comparing(IntegrityIssue::getFile));
+            return issues;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MavenException(e);
+        } catch (ExecutionException e) {
+            throw new MavenException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static boolean repair(@NotNull IntegrityIssue issue) {
+        Validation.notNull(issue, "Issue must not be null.");
+        File file = issue.getFile();
+        for (String[] checksum : CHECKSUMS) {
+            File checksumFile = new File(file.getPath() + checksum[0]);
+            if (checksumFile.exists() && !checksumFile.delete()) {
+                return false;
+            }
+        }
+        return !file.exists() || file.delete();
+    }
+
+    @NotNull
+    public static List<File> writeChecksums(@NotNull File file) throws IOException {
+        Validation.notNull(file, "File must not be null.");
+        List<File> checksumFiles = new ArrayList<>(SIDECARS.length);
+        for (String[] sidecar : SIDECARS) {
+            File checksumFile = new File(file.getPath() + sidecar[0]);
+            Files.write(checksumFile.toPath(), digest(file, sidecar[1]).getBytes(StandardCharsets.US_ASCII));
+            checksumFiles.add(checksumFile);
+        }
+        return checksumFiles;
+    }
+
+    public static void deleteChecksums(@NotNull File file) throws IOException {
+        Validation.notNull(file, "File must not be null.");
+        for (String[] checksum : CHECKSUMS) {
+            Files.deleteIfExists(new File(file.getPath() + checksum[0]).toPath());
+        }
+    }
+
+    @Nullable
+    public static IntegrityIssue verify(@NotNull File file, boolean deep) {
+        Validation.notNull(file, "File must not be null.");
+        String name = file.getName().toLowerCase(Locale.ROOT);
+        long length = file.length();
+        if (length < MIN_FILE_SIZE) {
+            return new IntegrityIssue(file, String.format("File is too small to be valid (%d bytes).", length));
+        }
+        try {
+            String checksumIssue = verifyChecksum(file);
+            if (checksumIssue != null) {
+                return new IntegrityIssue(file, checksumIssue);
+            }
+            if (endsWith(name, ARCHIVE_EXTENSIONS)) {
+                verifyArchive(file, deep);
+            } else if (endsWith(name, XML_EXTENSIONS)) {
+                verifyXml(file);
+            }
+            return null;
+        } catch (IOException | SAXException | ParserConfigurationException e) {
+            return new IntegrityIssue(file, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private static void collect(@NotNull File directory, @NotNull List<File> files) {
+        File[] children = directory.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                collect(child, files);
+                continue;
+            }
+            String name = child.getName().toLowerCase(Locale.ROOT);
+            if (endsWith(name, ARCHIVE_EXTENSIONS) || endsWith(name, XML_EXTENSIONS)) {
+                files.add(child);
+            }
+        }
+    }
+
+    private static boolean endsWith(@NotNull String name, @NotNull String[] extensions) {
+        for (String extension : extensions) {
+            if (name.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static String verifyChecksum(@NotNull File file) throws IOException {
+        for (String[] checksum : CHECKSUMS) {
+            File checksumFile = new File(file.getPath() + checksum[0]);
+            if (!checksumFile.isFile()) {
+                continue;
+            }
+            String content = new String(Files.readAllBytes(checksumFile.toPath()), StandardCharsets.US_ASCII).trim();
+            String expected = content.isEmpty() ? "" : content.split("\\s+", 2)[0];
+            String actual = digest(file, checksum[1]);
+            if (!actual.equalsIgnoreCase(expected)) {
+                return String.format("%s mismatch: expected %s, got %s.", checksum[1], expected, actual);
+            }
+            return null;
+        }
+        return null;
+    }
+
+    @NotNull
+    private static String digest(@NotNull File file, @NotNull String algorithm) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            int read;
+            while ((read = input.read(buffer)) >= 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder builder = new StringBuilder(digest.getDigestLength() * 2);
+        for (byte b : digest.digest()) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static void verifyArchive(@NotNull File file, boolean deep) throws IOException {
+        try (ZipFile zipFile = new ZipFile(file)) {
+            if (!deep) {
+                return;
+            }
+            byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                try (InputStream input = zipFile.getInputStream(entry)) {
+                    while (input.read(buffer) >= 0) {
+                        continue;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void verifyXml(@NotNull File file) throws IOException, SAXException, ParserConfigurationException {
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            SaxParsers.parse(input, new DefaultHandler());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public abstract class SaxParsers {
+
+    private static final SAXParserFactory FACTORY = SAXParserFactory.newInstance();
+    private static final ThreadLocal<SAXParser> PARSER = new ThreadLocal<>();
+
+    @NotNull
+    private static SAXParser newParser() throws ParserConfigurationException, SAXException {
+        synchronized (FACTORY) {
+            return FACTORY.newSAXParser();
+        }
+    }
+
+    public static void parse(@NotNull InputStream inputStream, @NotNull DefaultHandler handler)
+            throws IOException, SAXException, ParserConfigurationException {
+        Validation.notNull(inputStream, "Input stream must not be null.");
+        Validation.notNull(handler, "Handler must not be null.");
+        SAXParser parser = PARSER.get();
+        if (parser == null) {
+            parser = newParser();
+        } else {
+            PARSER.remove();
+        }
+        boolean reusable = false;
+        try {
+            parser.parse(inputStream, handler);
+            parser.reset();
+            reusable = true;
+        } finally {
+            if (reusable) {
+                PARSER.set(parser);
+            }
+        }
+    }
+}
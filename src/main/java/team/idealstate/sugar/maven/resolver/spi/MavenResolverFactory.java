@@ -19,9 +19,16 @@ package team.idealstate.sugar.maven.resolver.spi;
 import team.idealstate.sugar.maven.resolver.api.MavenResolver;
 import team.idealstate.sugar.maven.resolver.api.MavenResolverConfiguration;
 import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
 
 public interface MavenResolverFactory {
 
     @NotNull
     MavenResolver create(@NotNull MavenResolverConfiguration configuration);
+
+    @NotNull
+    default MavenResolver create(
+            @NotNull MavenResolverConfiguration configuration, @Nullable ClassLoader classLoader) {
+        return create(configuration);
+    }
 }
@@ -20,7 +20,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
-import java.util.ServiceLoader;
 import team.idealstate.sugar.maven.exception.MavenException;
 import team.idealstate.sugar.maven.resolver.api.MavenResolver;
 import team.idealstate.sugar.validate.Validation;
@@ -37,20 +36,7 @@ public interface MavenResolverLoader {
     @NotNull
     static MavenResolverLoader instance(@NotNull String name, @Nullable ClassLoader classLoader) {
         Validation.notNullOrBlank(name, "Name must not be null or blank.");
-        MavenResolverLoader instance = null;
-        for (MavenResolverLoader loader : ServiceLoader.load(MavenResolverLoader.class, classLoader)) {
-            if (name.equals(loader.getName())) {
-                if (instance != null) {
-                    throw new MavenException(
-                            String.format("There are multiple maven resolver loaders with the same name '%s'.", name));
-                }
-                instance = loader;
-            }
-        }
-        if (instance == null) {
-            throw new MavenException(String.format("Maven resolver loader '%s' not found.", name));
-        }
-        return instance;
+        return MavenResolverLoaders.instance(name, classLoader);
     }
 
     @NotNull
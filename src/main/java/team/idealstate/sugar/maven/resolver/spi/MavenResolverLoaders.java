@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.maven.resolver.spi;
+
+import java.util.ServiceLoader;
+import team.idealstate.sugar.maven.exception.MavenException;
+import team.idealstate.sugar.service.ClassLoaderCache;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+abstract class MavenResolverLoaders {
+
+    private static final ClassLoaderCache<MavenResolverLoader> CACHE = new ClassLoaderCache<>();
+
+    @NotNull
+    static MavenResolverLoader instance(@NotNull String name, @Nullable ClassLoader classLoader) {
+        return CACHE.get(classLoader, name, it -> lookup(name, classLoader));
+    }
+
+    @NotNull
+    private static MavenResolverLoader lookup(@NotNull String name, @Nullable ClassLoader classLoader) {
+        MavenResolverLoader instance = null;
+        for (MavenResolverLoader loader : ServiceLoader.load(MavenResolverLoader.class, classLoader)) {
+            if (name.equals(loader.getName())) {
+                if (instance != null) {
+                    throw new MavenException(
+                            String.format("There are multiple maven resolver loaders with the same name '%s'.", name));
+                }
+                instance = loader;
+            }
+        }
+        if (instance == null) {
+            throw new MavenException(String.format("Maven resolver loader '%s' not found.", name));
+        }
+        return instance;
+    }
+}
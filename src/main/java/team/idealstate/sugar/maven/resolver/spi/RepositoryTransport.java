@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.maven.resolver.spi;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import team.idealstate.sugar.maven.resolver.api.Repository;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+public interface RepositoryTransport {
+
+    boolean isSupported(@NotNull Repository repository, @NotNull URI location);
+
+    boolean exists(@NotNull Repository repository, @NotNull URI location) throws IOException;
+
+    @NotNull
+    TransportResponse fetch(@NotNull Repository repository, @NotNull URI location, @NotNull TransportRequest request)
+            throws IOException;
+
+    @Nullable
+    default File getLocalFile(@NotNull Repository repository, @NotNull URI location) {
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.maven.resolver.spi;
+
+import lombok.Data;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+@Data
+public final class TransportRequest {
+
+    public static final TransportRequest DEFAULT = new TransportRequest(false, null, 0L, 0L);
+
+    private final boolean compressed;
+
+    @Nullable
+    private final String etag;
+
+    private final long lastModified;
+
+    private final long offset;
+}
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.maven.resolver.spi;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+@Data
+public final class TransportResponse implements Closeable {
+
+    @NotNull
+    public static TransportResponse notFound() {
+        return new TransportResponse(TransportStatus.NOT_FOUND, null, -1L, null, null, 0L, null, null);
+    }
+
+    @NotNull
+    public static TransportResponse notModified(@Nullable String etag, long lastModified) {
+        return new TransportResponse(TransportStatus.NOT_MODIFIED, null, -1L, null, etag, lastModified, null, null);
+    }
+
+    @NotNull
+    public static TransportResponse failed(@NotNull String message) {
+        return new TransportResponse(TransportStatus.FAILED, null, -1L, null, null, 0L, message, null);
+    }
+
+    @NonNull
+    private final TransportStatus status;
+
+    @Nullable
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final InputStream body;
+
+    private final long contentLength;
+
+    @Nullable
+    private final String contentEncoding;
+
+    @Nullable
+    private final String etag;
+
+    private final long lastModified;
+
+    @Nullable
+    private final String message;
+
+    @Nullable
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Closeable resource;
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (body != null) {
+                body.close();
+            }
+        } finally {
+            if (resource != null) {
+                resource.close();
+            }
+        }
+    }
+}
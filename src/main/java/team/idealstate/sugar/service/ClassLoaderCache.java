@@ -0,0 +1,135 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package team.idealstate.sugar.service;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import team.idealstate.sugar.service.exception.ServiceException;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+public final class ClassLoaderCache<V> {
+
+    private final Map<ClassLoader, Map<String, Supplier<V>>> cache = new WeakHashMap<>();
+    private final Map<ClassLoader, Map<String, FutureTask<V>>> loading = new WeakHashMap<>();
+
+    @NotNull
+    public V get(@Nullable ClassLoader classLoader, @NotNull String key, @NotNull Function<String, V> valueFactory) {
+        Validation.notNull(key, "Key must not be null.");
+        Validation.notNull(valueFactory, "Value factory must not be null.");
+        ClassLoader owner = classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+        FutureTask<V> task;
+        boolean loader = false;
+        synchronized (this) {
+            Supplier<V> supplier = cache.computeIfAbsent(owner, it -> new HashMap<>()).get(key);
+            V value = supplier == null ? null : supplier.get();
+            if (value != null) {
+                return value;
+            }
+            Map<String, FutureTask<V>> tasks = loading.computeIfAbsent(owner, it -> new HashMap<>());
+            task = tasks.get(key);
+            if (task == null) {
+                task = new FutureTask<>(
+                        () -> Validation.requireNotNull(valueFactory.apply(key), "Value must not be null."));
+                tasks.put(key, task);
+                loader = true;
+            }
+        }
+        if (loader) {
+            try {
+                task.run();
+            } finally {
+                publish(owner, key, task);
+            }
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ServiceException(cause);
+        }
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+        loading.clear();
+    }
+
+    private synchronized void publish(@NotNull ClassLoader owner, @NotNull String key, @NotNull FutureTask<V> task) {
+        Map<String, FutureTask<V>> tasks = loading.get(owner);
+        if (tasks == null || !tasks.remove(key, task)) {
+            return;
+        }
+        if (tasks.isEmpty()) {
+            loading.remove(owner);
+        }
+        V value;
+        try {
+            value = task.get();
+        } catch (InterruptedException | ExecutionException e) {
+            return;
+        }
+        cache.computeIfAbsent(owner, it -> new HashMap<>()).put(key, reference(owner, value));
+    }
+
+    @NotNull
+    private static <V> Supplier<V> reference(@NotNull ClassLoader owner, @NotNull V value) {
+        if (isAncestorOrSelf(owner, ClassLoaderCache.class.getClassLoader())
+                || !isOwned(owner, value)) {
+            return () -> value;
+        }
+        WeakReference<V> reference = new WeakReference<>(value);
+        return reference::get;
+    }
+
+    private static boolean isOwned(@NotNull ClassLoader owner, @NotNull Object value) {
+        if (!(value instanceof Collection)) {
+            return isAncestorOrSelf(owner, value.getClass().getClassLoader());
+        }
+        for (Object element : (Collection<?>) value) {
+            if (element != null && isAncestorOrSelf(owner, element.getClass().getClassLoader())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAncestorOrSelf(@NotNull ClassLoader ancestor, @Nullable ClassLoader classLoader) {
+        for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
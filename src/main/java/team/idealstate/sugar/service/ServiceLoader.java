@@ -16,7 +16,9 @@
 
 package team.idealstate.sugar.service;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Supplier;
 import team.idealstate.sugar.service.exception.ServiceException;
 import team.idealstate.sugar.validate.annotation.NotNull;
@@ -52,4 +54,18 @@ public abstract class ServiceLoader {
         }
         return service;
     }
+
+    @NotNull
+    public static <T> List<T> all(@NotNull Class<T> serviceType) {
+        return all(serviceType, null);
+    }
+
+    @NotNull
+    public static <T> List<T> all(@NotNull Class<T> serviceType, ClassLoader classLoader) {
+        List<T> services = new ArrayList<>();
+        for (T service : java.util.ServiceLoader.load(serviceType, classLoader)) {
+            services.add(service);
+        }
+        return services;
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.jfr;
+
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public abstract class Jfr {
+
+    public static boolean isAvailable() {
+        return true;
+    }
+
+    @NotNull
+    public static DownloadEvent download() {
+        return new SugarDownloadEvent();
+    }
+
+    @NotNull
+    public static ParseEvent pomParse() {
+        return new SugarPomParseEvent();
+    }
+
+    @NotNull
+    public static ParseEvent metadataParse() {
+        return new SugarMetadataParseEvent();
+    }
+
+    @NotNull
+    public static BundledReleaseEvent bundledRelease() {
+        return new SugarBundledReleaseEvent();
+    }
+
+    @NotNull
+    public static ClasspathAppendEvent classpathAppend() {
+        return new SugarClasspathAppendEvent();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("team.idealstate.sugar.BundledRelease")
+@Label("Bundled Release")
+@Category("Sugar")
+@Description("Extraction of bundled entries out of the holder jar")
+final class SugarBundledReleaseEvent extends Event implements BundledReleaseEvent {
+
+    @Label("Holder")
+    private String holder;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Entries")
+    private int entries;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Override
+    public void setHolder(String holder) {
+        this.holder = holder;
+    }
+
+    @Override
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public void setEntries(int entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
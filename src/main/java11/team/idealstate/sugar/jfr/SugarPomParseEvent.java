@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("team.idealstate.sugar.PomParse")
+@Label("POM Parse")
+@Category({"Sugar", "Maven"})
+@Description("Parsing of a single POM document")
+final class SugarPomParseEvent extends Event implements ParseEvent {
+
+    @Label("Coordinates")
+    private String coordinates;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Entries")
+    private int entries;
+
+    @Override
+    public void setCoordinates(String coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    @Override
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    @Override
+    public void setEntries(int entries) {
+        this.entries = entries;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.agent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.simple.FixtureRepository;
+
+class PrefetchTest {
+
+    private static final String GROUP_PATH = FixtureRepository.GROUP_ID.replace('.', '/');
+    private static final String VERSION = FixtureRepository.VERSION;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesChecksumsAndIndex() throws IOException {
+        Path remote = directory.resolve("remote");
+        FixtureRepository.writeArtifact(
+                remote, FixtureRepository.GROUP_ID, "root", VERSION, Collections.singletonList("leaf"));
+        FixtureRepository.writeArtifact(remote, FixtureRepository.GROUP_ID, "leaf", VERSION, Collections.emptyList());
+        Path local = directory.resolve("local");
+        Path configuration = directory.resolve("config.xml");
+        Files.write(
+                configuration,
+                ("<resolver><local><name>local</name><url>" + local.toUri() + "</url></local>"
+                                + "<remote><repository><name>fixture</name><url>" + remote.toUri()
+                                + "</url></repository></remote></resolver>")
+                        .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(
+                0, Prefetch.run(configuration.toString(), FixtureRepository.GROUP_ID + ":root:" + VERSION));
+
+        List<String> index = Files.readAllLines(local.resolve("index.txt"), StandardCharsets.UTF_8);
+        for (String artifactId : new String[] {"root", "leaf"}) {
+            for (String extension : new String[] {".jar", ".pom"}) {
+                String path = GROUP_PATH + "/" + artifactId + "/" + VERSION + "/" + artifactId + "-" + VERSION
+                        + extension;
+                File file = local.resolve(path).toFile();
+                assertTrue(index.contains(path), path);
+                assertTrue(index.contains(path + ".sha1"), path + ".sha1");
+                assertTrue(index.contains(path + ".sha256"), path + ".sha256");
+                assertEquals(digest(file, "SHA-1"), read(new File(file.getPath() + ".sha1")));
+                assertEquals(digest(file, "SHA-256"), read(new File(file.getPath() + ".sha256")));
+            }
+        }
+        assertEquals(12, index.size());
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.US_ASCII);
+    }
+
+    private static String digest(File file, String algorithm) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        StringBuilder builder = new StringBuilder();
+        for (byte b : digest.digest(Files.readAllBytes(file.toPath()))) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
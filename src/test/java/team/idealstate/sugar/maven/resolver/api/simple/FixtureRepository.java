@@ -0,0 +1,330 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public final class FixtureRepository {
+
+    public static final String GROUP_ID = "team.idealstate.sugar.fixture";
+    public static final String VERSION = "1.0.0";
+    private static final int JAR_SIZE = 1024 * 8;
+
+    @NotNull
+    public static FixtureRepository create(@NotNull Path directory, @NotNull Shape shape) throws IOException {
+        Validation.notNull(directory, "Directory must not be null.");
+        Validation.notNull(shape, "Shape must not be null.");
+        Map<String, List<String>> graph = shape.graph();
+        for (Map.Entry<String, List<String>> node : graph.entrySet()) {
+            writeArtifact(directory, GROUP_ID, node.getKey(), VERSION, node.getValue());
+        }
+        return new FixtureRepository(directory, shape, graph.size());
+    }
+
+    public static void writeArtifact(
+            @NotNull Path directory,
+            @NotNull String groupId,
+            @NotNull String artifactId,
+            @NotNull String version,
+            @NotNull List<String> dependencies)
+            throws IOException {
+        Path parent =
+                directory.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version);
+        Files.createDirectories(parent);
+        String name = artifactId + "-" + version;
+        Files.write(
+                parent.resolve(name + ".pom"),
+                pom(groupId, artifactId, version, dependencies, Collections.emptyMap()));
+        byte[] jar = new byte[JAR_SIZE];
+        Arrays.fill(jar, (byte) 0x5A);
+        Files.write(parent.resolve(name + ".jar"), jar);
+    }
+
+    @NotNull
+    public static byte[] pom(
+            @NotNull String groupId,
+            @NotNull String artifactId,
+            @NotNull String version,
+            @NotNull List<String> dependencies,
+            @NotNull Map<String, String> properties) {
+        StringBuilder builder = new StringBuilder(512 + dependencies.size() * 192 + properties.size() * 64)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+                .append("    <modelVersion>4.0.0</modelVersion>\n")
+                .append("    <groupId>")
+                .append(groupId)
+                .append("</groupId>\n")
+                .append("    <artifactId>")
+                .append(artifactId)
+                .append("</artifactId>\n")
+                .append("    <version>")
+                .append(version)
+                .append("</version>\n");
+        if (!properties.isEmpty()) {
+            builder.append("    <properties>\n");
+            for (Map.Entry<String, String> property : properties.entrySet()) {
+                builder.append("        <")
+                        .append(property.getKey())
+                        .append('>')
+                        .append(property.getValue())
+                        .append("</")
+                        .append(property.getKey())
+                        .append(">\n");
+            }
+            builder.append("    </properties>\n");
+        }
+        if (!dependencies.isEmpty()) {
+            builder.append("    <dependencies>\n");
+            for (String dependency : dependencies) {
+                String[] parts = dependency.split(":");
+                builder.append("        <dependency>\n")
+                        .append("            <groupId>")
+                        .append(parts.length == 1 ? groupId : parts[0])
+                        .append("</groupId>\n")
+                        .append("            <artifactId>")
+                        .append(parts.length == 1 ? parts[0] : parts[1])
+                        .append("</artifactId>\n")
+                        .append("            <version>")
+                        .append(parts.length < 3 ? version : parts[2])
+                        .append("</version>\n")
+                        .append("        </dependency>\n");
+            }
+            builder.append("    </dependencies>\n");
+        }
+        return builder.append("</project>\n").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @NotNull
+    public static byte[] snapshotMetadata(
+            @NotNull String groupId, @NotNull String artifactId, @NotNull String version, int versions) {
+        StringBuilder builder = new StringBuilder(512 + versions * 96)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<metadata modelVersion=\"1.1.0\">\n")
+                .append("    <groupId>")
+                .append(groupId)
+                .append("</groupId>\n")
+                .append("    <artifactId>")
+                .append(artifactId)
+                .append("</artifactId>\n")
+                .append("    <version>")
+                .append(version)
+                .append("</version>\n")
+                .append("    <versioning>\n")
+                .append("        <snapshot>\n")
+                .append("            <timestamp>20250101.120000</timestamp>\n")
+                .append("            <buildNumber>")
+                .append(versions)
+                .append("</buildNumber>\n")
+                .append("        </snapshot>\n")
+                .append("        <lastUpdated>20250101120000</lastUpdated>\n")
+                .append("        <snapshotVersions>\n");
+        String base = version.substring(0, version.length() - "-SNAPSHOT".length());
+        for (int i = 1; i <= versions; i++) {
+            builder.append("            <snapshotVersion>\n")
+                    .append("                <extension>jar</extension>\n")
+                    .append("                <value>")
+                    .append(base)
+                    .append("-20250101.120000-")
+                    .append(i)
+                    .append("</value>\n")
+                    .append("                <updated>20250101120000</updated>\n")
+                    .append("            </snapshotVersion>\n");
+        }
+        return builder.append("        </snapshotVersions>\n")
+                .append("    </versioning>\n")
+                .append("</metadata>\n")
+                .toString()
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void delete(@NotNull Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException {
+                Files.delete(directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private final Path directory;
+    private final Shape shape;
+    private final int nodes;
+
+    private FixtureRepository(@NotNull Path directory, @NotNull Shape shape, int nodes) {
+        this.directory = directory;
+        this.shape = shape;
+        this.nodes = nodes;
+    }
+
+    @NotNull
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @NotNull
+    public Shape getShape() {
+        return shape;
+    }
+
+    public int getNodes() {
+        return nodes;
+    }
+
+    @NotNull
+    public String getRootId() {
+        return GROUP_ID + ":" + shape.root() + ":" + VERSION;
+    }
+
+    public enum Shape {
+        CHAIN {
+            @NotNull
+            @Override
+            Map<String, List<String>> graph() {
+                Map<String, List<String>> graph = new LinkedHashMap<>();
+                int depth = 64;
+                for (int i = 0; i < depth; i++) {
+                    graph.put(
+                            "chain-" + i,
+                            i + 1 < depth ? Collections.singletonList("chain-" + (i + 1)) : Collections.emptyList());
+                }
+                return graph;
+            }
+
+            @NotNull
+            @Override
+            String root() {
+                return "chain-0";
+            }
+        },
+        FAN_OUT {
+            @NotNull
+            @Override
+            Map<String, List<String>> graph() {
+                Map<String, List<String>> graph = new LinkedHashMap<>();
+                int width = 128;
+                List<String> leaves = new ArrayList<>(width);
+                for (int i = 0; i < width; i++) {
+                    String leaf = "leaf-" + i;
+                    leaves.add(leaf);
+                    graph.put(leaf, Collections.emptyList());
+                }
+                graph.put(root(), leaves);
+                return graph;
+            }
+
+            @NotNull
+            @Override
+            String root() {
+                return "fan-out";
+            }
+        },
+        DIAMOND {
+            @NotNull
+            @Override
+            Map<String, List<String>> graph() {
+                Map<String, List<String>> graph = new LinkedHashMap<>();
+                int layers = 6;
+                int width = 2;
+                graph.put(root(), layer(0, width));
+                for (int layer = 0; layer < layers; layer++) {
+                    List<String> next = layer + 1 < layers ? layer(layer + 1, width) : Collections.emptyList();
+                    for (String node : layer(layer, width)) {
+                        graph.put(node, next);
+                    }
+                }
+                return graph;
+            }
+
+            @NotNull
+            private List<String> layer(int layer, int width) {
+                List<String> nodes = new ArrayList<>(width);
+                for (int i = 0; i < width; i++) {
+                    nodes.add("diamond-" + layer + "-" + i);
+                }
+                return nodes;
+            }
+
+            @NotNull
+            @Override
+            String root() {
+                return "diamond";
+            }
+        },
+        LARGE {
+            @NotNull
+            @Override
+            Map<String, List<String>> graph() {
+                Map<String, List<String>> graph = new LinkedHashMap<>();
+                int branching = 8;
+                int depth = 3;
+                List<String> current = Collections.singletonList(root());
+                for (int level = 0; level < depth; level++) {
+                    List<String> next = new ArrayList<>(current.size() * branching);
+                    for (String node : current) {
+                        List<String> children = new ArrayList<>(branching);
+                        for (int i = 0; i < branching; i++) {
+                            children.add(node + "-" + i);
+                        }
+                        graph.put(node, children);
+                        next.addAll(children);
+                    }
+                    current = next;
+                }
+                for (String node : current) {
+                    graph.put(node, Collections.emptyList());
+                }
+                return graph;
+            }
+
+            @NotNull
+            @Override
+            String root() {
+                return "large";
+            }
+        };
+
+        @NotNull
+        abstract Map<String, List<String>> graph();
+
+        @NotNull
+        abstract String root();
+    }
+}
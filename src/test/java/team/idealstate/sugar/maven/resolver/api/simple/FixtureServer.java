@@ -0,0 +1,427 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public final class FixtureServer implements Closeable {
+
+    public static final String REDIRECT_PATH = "/redirect";
+    private static final int CHUNK_SIZE = 1024 * 4;
+
+    @NotNull
+    public static FixtureServer start(@NotNull Path root) throws IOException {
+        return start(root, new Options());
+    }
+
+    @NotNull
+    public static FixtureServer start(@NotNull Path root, @NotNull Options options) throws IOException {
+        Validation.notNull(root, "Root must not be null.");
+        Validation.notNull(options, "Options must not be null.");
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        FixtureServer fixtureServer = new FixtureServer(server, root.toAbsolutePath().normalize(), options);
+        server.createContext("/", fixtureServer::serve);
+        server.createContext(REDIRECT_PATH + "/", fixtureServer::redirect);
+        server.setExecutor(fixtureServer.executor);
+        server.start();
+        return fixtureServer;
+    }
+
+    private final HttpServer server;
+    private final Path root;
+    private final Options options;
+    private final Random random;
+    private final ExecutorService executor;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong transferred = new AtomicLong();
+    private final Map<Integer, AtomicLong> responses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+
+    private FixtureServer(@NotNull HttpServer server, @NotNull Path root, @NotNull Options options) {
+        this.server = server;
+        this.root = root;
+        this.options = options.copy();
+        this.random = new Random(options.seed);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @NotNull
+    public URI getUrl() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort() + "/");
+    }
+
+    @NotNull
+    public URI getRedirectUrl() {
+        return getUrl().resolve(REDIRECT_PATH.substring(1) + "/");
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getTransferred() {
+        return transferred.get();
+    }
+
+    public int getAttempts(@NotNull String path) {
+        Validation.notNull(path, "Path must not be null.");
+        AtomicInteger count = attempts.get(path.startsWith("/") ? path : "/" + path);
+        return count == null ? 0 : count.get();
+    }
+
+    public long getResponses(int status) {
+        AtomicLong count = responses.get(status);
+        return count == null ? 0L : count.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void redirect(@NotNull HttpExchange exchange) throws IOException {
+        try {
+            requests.incrementAndGet();
+            String path = exchange.getRequestURI().getRawPath().substring(REDIRECT_PATH.length());
+            exchange.getResponseHeaders().set("Location", path);
+            respond(exchange, 302, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void serve(@NotNull HttpExchange exchange) throws IOException {
+        try {
+            requests.incrementAndGet();
+            delay(options.latencyMillis);
+            String method = exchange.getRequestMethod();
+            boolean head = "HEAD".equals(method);
+            if (head ? !options.head : !"GET".equals(method)) {
+                respond(exchange, 405, -1);
+                return;
+            }
+            int attempt = head
+                    ? 0
+                    : attempts.computeIfAbsent(exchange.getRequestURI().getPath(), it -> new AtomicInteger())
+                            .incrementAndGet();
+            if (attempt > 0 && attempt <= options.failures) {
+                respond(exchange, 500, -1);
+                return;
+            }
+            if (options.errorRate > 0 && nextDouble() < options.errorRate) {
+                respond(exchange, 500, -1);
+                return;
+            }
+            Path file = root.resolve(exchange.getRequestURI().getPath().substring(1)).normalize();
+            if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+                respond(exchange, 404, -1);
+                return;
+            }
+            long length = Files.size(file);
+            long lastModified = Files.getLastModifiedTime(file).toMillis() / 1000 * 1000;
+            String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+            Headers responseHeaders = exchange.getResponseHeaders();
+            responseHeaders.set("ETag", etag);
+            responseHeaders.set("Last-Modified", formatHttpDate(lastModified));
+            responseHeaders.set("Accept-Ranges", "bytes");
+            if (isNotModified(exchange.getRequestHeaders(), etag, lastModified)) {
+                respond(exchange, 304, -1);
+                return;
+            }
+            long start = 0;
+            long end = length - 1;
+            int status = 200;
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            if (range != null && range.startsWith("bytes=")) {
+                String[] bounds = range.substring("bytes=".length()).split("-", 2);
+                try {
+                    if (bounds[0].isEmpty()) {
+                        start = Math.max(0, length - Long.parseLong(bounds[1]));
+                    } else {
+                        start = Long.parseLong(bounds[0]);
+                    }
+                    if (!bounds[0].isEmpty() && bounds.length > 1 && !bounds[1].isEmpty()) {
+                        end = Math.min(end, Long.parseLong(bounds[1]));
+                    }
+                } catch (NumberFormatException e) {
+                    respond(exchange, 400, -1);
+                    return;
+                }
+                if (start > end) {
+                    responseHeaders.set("Content-Range", "bytes */" + length);
+                    respond(exchange, 416, -1);
+                    return;
+                }
+                responseHeaders.set("Content-Range", "bytes " + start + "-" + end + "/" + length);
+                status = 206;
+            }
+            if (status == 200 && isCompressed(exchange.getRequestHeaders(), file)) {
+                responseHeaders.set("Content-Encoding", "gzip");
+                byte[] compressed = compress(file);
+                if (head) {
+                    responseHeaders.set("Content-Length", Integer.toString(compressed.length));
+                    respond(exchange, status, -1);
+                    return;
+                }
+                respond(exchange, status, compressed.length);
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(compressed);
+                    transferred.addAndGet(compressed.length);
+                    throttle(compressed.length);
+                }
+                return;
+            }
+            long contentLength = end - start + 1;
+            if (head) {
+                responseHeaders.set("Content-Length", Long.toString(contentLength));
+                respond(exchange, status, -1);
+                return;
+            }
+            respond(exchange, status, contentLength);
+            long limit = contentLength;
+            if (attempt > options.failures && attempt <= options.failures + options.truncations
+                    || options.truncateRate > 0 && nextDouble() < options.truncateRate) {
+                limit = contentLength / 2;
+            }
+            try (InputStream input = Files.newInputStream(file);
+                    OutputStream output = exchange.getResponseBody()) {
+                skipFully(input, start);
+                byte[] buffer = new byte[CHUNK_SIZE];
+                long remaining = limit;
+                while (remaining > 0) {
+                    int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        break;
+                    }
+                    output.write(buffer, 0, read);
+                    output.flush();
+                    transferred.addAndGet(read);
+                    remaining -= read;
+                    throttle(read);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(@NotNull HttpExchange exchange, int status, long length) throws IOException {
+        responses.computeIfAbsent(status, it -> new AtomicLong()).incrementAndGet();
+        exchange.sendResponseHeaders(status, length);
+    }
+
+    private boolean isNotModified(@NotNull Headers requestHeaders, @NotNull String etag, long lastModified) {
+        String ifNoneMatch = requestHeaders.getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            return ifNoneMatch.equals(etag) || "*".equals(ifNoneMatch);
+        }
+        String ifModifiedSince = requestHeaders.getFirst("If-Modified-Since");
+        if (ifModifiedSince != null) {
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toInstant()
+                        .toEpochMilli();
+                return lastModified <= since;
+            } catch (DateTimeParseException ignored) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private boolean isCompressed(@NotNull Headers requestHeaders, @NotNull Path file) {
+        if (!options.compression) {
+            return false;
+        }
+        String acceptEncoding = requestHeaders.getFirst("Accept-Encoding");
+        if (acceptEncoding == null || !acceptEncoding.contains("gzip")) {
+            return false;
+        }
+        String fileName = file.getFileName().toString();
+        return fileName.endsWith(".pom") || fileName.endsWith(".xml");
+    }
+
+    @NotNull
+    private static byte[] compress(@NotNull Path file) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(buffer)) {
+            Files.copy(file, output);
+        }
+        return buffer.toByteArray();
+    }
+
+    private void throttle(int bytes) {
+        if (options.bytesPerSecond <= 0) {
+            return;
+        }
+        delay(bytes * 1000L / options.bytesPerSecond);
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    @NotNull
+    private static String formatHttpDate(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+    }
+
+    private static void skipFully(@NotNull InputStream input, long bytes) throws IOException {
+        while (bytes > 0) {
+            long skipped = input.skip(bytes);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of file.");
+            }
+            bytes -= skipped;
+        }
+    }
+
+    private static void delay(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static final class Options {
+
+        private long latencyMillis = 0L;
+        private long bytesPerSecond = 0L;
+        private double errorRate = 0.0D;
+        private double truncateRate = 0.0D;
+        private int failures = 0;
+        private int truncations = 0;
+        private long seed = 0L;
+        private boolean compression = false;
+        private boolean head = true;
+
+        @NotNull
+        public Options latency(long millis) {
+            Validation.is(millis >= 0, "Latency must not be negative.");
+            this.latencyMillis = millis;
+            return this;
+        }
+
+        @NotNull
+        public Options bandwidth(long bytesPerSecond) {
+            Validation.is(bytesPerSecond >= 0, "Bandwidth must not be negative.");
+            this.bytesPerSecond = bytesPerSecond;
+            return this;
+        }
+
+        @NotNull
+        public Options errorRate(double errorRate) {
+            Validation.is(errorRate >= 0 && errorRate <= 1, "Error rate must be between 0 and 1.");
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        @NotNull
+        public Options truncateRate(double truncateRate) {
+            Validation.is(truncateRate >= 0 && truncateRate <= 1, "Truncate rate must be between 0 and 1.");
+            this.truncateRate = truncateRate;
+            return this;
+        }
+
+        @NotNull
+        public Options failures(int failures) {
+            Validation.is(failures >= 0, "Failures must not be negative.");
+            this.failures = failures;
+            return this;
+        }
+
+        @NotNull
+        public Options truncations(int truncations) {
+            Validation.is(truncations >= 0, "Truncations must not be negative.");
+            this.truncations = truncations;
+            return this;
+        }
+
+        @NotNull
+        public Options seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        @NotNull
+        public Options compression(boolean compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        @NotNull
+        public Options head(boolean head) {
+            this.head = head;
+            return this;
+        }
+
+        @NotNull
+        private Options copy() {
+            return new Options()
+                    .latency(latencyMillis)
+                    .bandwidth(bytesPerSecond)
+                    .errorRate(errorRate)
+                    .truncateRate(truncateRate)
+                    .failures(failures)
+                    .truncations(truncations)
+                    .seed(seed)
+                    .compression(compression)
+                    .head(head);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class SimpleCoordinateTest {
+
+    @Test
+    void internsEqualCoordinates() {
+        SimpleCoordinate first = SimpleCoordinate.of(new String("org.example"), "lib", "jar", "", new String("1.0"));
+        SimpleCoordinate second = SimpleCoordinate.of(new String("org.example"), "lib", "jar", "", new String("1.0"));
+        assertSame(first, second);
+        assertSame(first.getGroupId(), second.getGroupId());
+        assertSame(first.getVersion(), second.getVersion());
+    }
+
+    @Test
+    void comparesByAllComponents() {
+        SimpleCoordinate coordinate = SimpleCoordinate.of("org.example", "lib", "jar", "", "1.0");
+        assertNotEquals(coordinate, SimpleCoordinate.of("org.example", "lib", "jar", "sources", "1.0"));
+        assertNotEquals(coordinate, SimpleCoordinate.of("org.example", "lib", "pom", "", "1.0"));
+        assertNotEquals(coordinate, SimpleCoordinate.of("org.example", "lib", "jar", "", "1.1"));
+        assertEquals(coordinate.hashCode(), SimpleCoordinate.of("org.example", "lib", "jar", "", "1.0").hashCode());
+    }
+
+    @Test
+    void derivesVersionAndArtifactKey() {
+        SimpleCoordinate coordinate = SimpleCoordinate.of("org.example", "lib", "jar", "", "1.0");
+        assertSame(coordinate, coordinate.withVersion("1.0"));
+        SimpleCoordinate newer = coordinate.withVersion("2.0");
+        assertEquals("2.0", newer.getVersion());
+        assertSame(newer, SimpleCoordinate.of("org.example", "lib", "jar", "", "2.0"));
+        assertSame(coordinate.getArtifactKey(), newer.getArtifactKey());
+        assertEquals("", coordinate.getArtifactKey().getVersion());
+        assertSame(coordinate.getArtifactKey(), coordinate.getArtifactKey().getArtifactKey());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+
+class SimpleInterpolatorTest {
+
+    @Test
+    void detectsTemplates() {
+        assertTrue(SimpleInterpolator.isTemplate("${version}"));
+        assertTrue(SimpleInterpolator.isTemplate("prefix-${version}"));
+        assertFalse(SimpleInterpolator.isTemplate("1.0"));
+        assertFalse(SimpleInterpolator.isTemplate(null));
+    }
+
+    @Test
+    void resolvesNestedProperties() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("major", "2");
+        properties.put("minor", "${major}.5");
+        properties.put("version", "${minor}.1");
+        SimpleInterpolator interpolator = new SimpleInterpolator(properties);
+        assertEquals("2.5.1", interpolator.interpolate("${version}"));
+        assertEquals("2.5.1", interpolator.property("version"));
+        assertEquals("2.5", interpolator.property("minor"));
+    }
+
+    @Test
+    void expandsEveryPlaceholderInValue() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("prefix", "sugar");
+        properties.put("suffix", "core");
+        SimpleInterpolator interpolator = new SimpleInterpolator(properties);
+        assertEquals("sugar-core_sugar", interpolator.interpolate("${prefix}-${suffix}_${prefix}"));
+        assertEquals("plain", interpolator.interpolate("plain"));
+    }
+
+    @Test
+    void leavesUnknownPlaceholders() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("known", "1.0");
+        SimpleInterpolator interpolator = new SimpleInterpolator(properties);
+        assertEquals("1.0-${unknown}", interpolator.interpolate("${known}-${unknown}"));
+        assertEquals("${unterminated", interpolator.interpolate("${unterminated"));
+        assertNull(interpolator.property("unknown"));
+    }
+
+    @Test
+    void reportsCyclicReferenceChain() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("a", "${b}");
+        properties.put("b", "x-${c}");
+        properties.put("c", "${a}");
+        SimpleInterpolator interpolator = new SimpleInterpolator(properties);
+        MavenResolutionException exception =
+                assertThrows(MavenResolutionException.class, () -> interpolator.interpolate("${a}"));
+        assertTrue(exception.getMessage().contains("a -> b -> c -> a"), exception.getMessage());
+    }
+
+    @Test
+    void reportsSelfReference() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("self", "${self}");
+        SimpleInterpolator interpolator = new SimpleInterpolator(properties);
+        MavenResolutionException exception =
+                assertThrows(MavenResolutionException.class, () -> interpolator.property("self"));
+        assertTrue(exception.getMessage().contains("self -> self"), exception.getMessage());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+import team.idealstate.sugar.maven.resolver.api.util.SaxParsers;
+
+class SimpleMavenResolverConfigurationTest {
+
+    @Test
+    void parsesSizesWithUnits() throws Exception {
+        assertEquals(10L << 30, bandwidth("10G"));
+        assertEquals(512L << 10, bandwidth("512KiB"));
+        assertEquals(2L << 40, bandwidth("2 TB"));
+        assertEquals(1024L, bandwidth("1024"));
+    }
+
+    @Test
+    void rejectsOverflowingSizes() {
+        assertThrows(IllegalArgumentException.class, () -> bandwidth("9000000T"));
+        assertThrows(IllegalArgumentException.class, () -> bandwidth("99999999999999999999"));
+        assertThrows(IllegalArgumentException.class, () -> bandwidth("fast"));
+    }
+
+    @Test
+    void expandsOnlyBareUserHome() throws Exception {
+        String home = System.getProperty("user.home");
+        List<File> overlays = parse("<resolver><local><overlays>"
+                        + "<overlay>~</overlay>"
+                        + "<overlay>~/.m2/repository</overlay>"
+                        + "<overlay>~other/.m2/repository</overlay>"
+                        + "<overlay>relative/~/repository</overlay>"
+                        + "</overlays></local></resolver>")
+                .getLocalRepository()
+                .getOverlays();
+        assertEquals(new File(home), overlays.get(0));
+        assertEquals(new File(new File(home), ".m2/repository"), overlays.get(1));
+        assertEquals(new File("~other/.m2/repository"), overlays.get(2));
+        assertEquals(new File("relative/~/repository"), overlays.get(3));
+    }
+
+    private static long bandwidth(String bandwidth) throws Exception {
+        return parse("<resolver><remote><repository><name>remote</name><url>https://repo.example.org/</url>"
+                        + "<bandwidth>" + bandwidth + "</bandwidth></repository></remote></resolver>")
+                .getRemoteRepositories()
+                .get(0)
+                .getBandwidth();
+    }
+
+    static SimpleMavenResolverConfiguration parse(String xml)
+            throws IOException, SAXException, ParserConfigurationException {
+        SimpleMavenResolverConfiguration configuration = new SimpleMavenResolverConfiguration();
+        SaxParsers.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), configuration);
+        return configuration;
+    }
+}
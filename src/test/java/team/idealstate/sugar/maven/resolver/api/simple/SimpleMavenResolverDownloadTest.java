@@ -0,0 +1,288 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.RepositoryPolicy;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+import team.idealstate.sugar.maven.resolver.api.util.IntegrityScanner;
+
+class SimpleMavenResolverDownloadTest {
+
+    private static final String GROUP_ID = FixtureRepository.GROUP_ID;
+    private static final String VERSION = "1.0.0";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void retriesAfterInjectedError() throws IOException {
+        Path remote = writeArtifact("retry");
+        try (FixtureServer server = FixtureServer.start(remote, new FixtureServer.Options().failures(2))) {
+            List<ResolvedArtifact> artifacts = resolve(server.getUrl(), Collections.emptyList(), "retry");
+            assertEquals(1, artifacts.size());
+            assertArrayEquals(readJar(remote, "retry"), Files.readAllBytes(artifacts.get(0).getFile().toPath()));
+            assertEquals(4L, server.getResponses(500));
+        }
+    }
+
+    @Test
+    void retriesTruncatedBody() throws IOException {
+        Path remote = writeArtifact("truncated");
+        try (FixtureServer server = FixtureServer.start(remote, new FixtureServer.Options().truncations(1))) {
+            List<ResolvedArtifact> artifacts = resolve(server.getUrl(), Collections.emptyList(), "truncated");
+            assertEquals(1, artifacts.size());
+            assertArrayEquals(readJar(remote, "truncated"), Files.readAllBytes(artifacts.get(0).getFile().toPath()));
+            assertEquals(2, server.getAttempts(remotePath("truncated", ".pom")));
+            assertEquals(2, server.getAttempts(remotePath("truncated", ".jar")));
+        }
+    }
+
+    @Test
+    void reparsesPomAfterTruncatedBody() throws IOException {
+        Path remote = directory.resolve("remote");
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "parsed", VERSION, Collections.singletonList("leaf"));
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "leaf", VERSION, Collections.emptyList());
+        try (FixtureServer server = FixtureServer.start(remote, new FixtureServer.Options().truncations(1))) {
+            List<ResolvedArtifact> artifacts = resolve(server.getUrl(), Collections.emptyList(), "parsed");
+            assertEquals(2, artifacts.size());
+            assertEquals("leaf", artifacts.get(1).getArtifactId());
+            assertEquals(2, server.getAttempts(remotePath("parsed", ".pom")));
+            assertArrayEquals(
+                    Files.readAllBytes(remote.resolve(remotePath("parsed", ".pom"))),
+                    Files.readAllBytes(localPath("parsed", ".pom")));
+        }
+    }
+
+    @Test
+    void rejectsBodyShorterThanContentLength() throws IOException {
+        Path remote = writeArtifact("short");
+        try (FixtureServer server = FixtureServer.start(remote, new FixtureServer.Options().truncations(5))) {
+            assertThrows(
+                    MavenResolutionException.class,
+                    () -> resolve(server.getUrl(), Collections.emptyList(), "short"));
+            assertFalse(Files.exists(localPath("short", ".pom")));
+            assertFalse(Files.exists(localPath("short", ".jar")));
+        }
+    }
+
+    @Test
+    void followsRedirect() throws IOException {
+        Path remote = writeArtifact("redirected");
+        try (FixtureServer server = FixtureServer.start(remote)) {
+            List<ResolvedArtifact> artifacts = resolve(server.getRedirectUrl(), Collections.emptyList(), "redirected");
+            assertEquals(1, artifacts.size());
+            assertArrayEquals(
+                    readJar(remote, "redirected"), Files.readAllBytes(artifacts.get(0).getFile().toPath()));
+            assertTrue(server.getResponses(302) > 0);
+        }
+    }
+
+    @Test
+    void fallsBackToGetWhenHeadIsRejected() throws IOException {
+        Path remote = writeArtifact("headless");
+        try (FixtureServer server = FixtureServer.start(remote, new FixtureServer.Options().head(false))) {
+            List<ResolvedArtifact> artifacts = resolve(server.getRedirectUrl(), Collections.emptyList(), "headless");
+            assertEquals(1, artifacts.size());
+            assertArrayEquals(readJar(remote, "headless"), Files.readAllBytes(artifacts.get(0).getFile().toPath()));
+            assertTrue(server.getResponses(405) > 0);
+            assertTrue(server.getResponses(302) > 0);
+        }
+    }
+
+    @Test
+    void fallsBackToTransportOnIndexMiss() throws IOException {
+        Path remote = directory.resolve("remote");
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "listed", VERSION, Collections.singletonList("unlisted"));
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "unlisted", VERSION, Collections.emptyList());
+        Files.write(
+                remote.resolve("index.txt"),
+                Arrays.asList(remotePath("listed", ".pom"), remotePath("listed", ".jar")),
+                StandardCharsets.UTF_8);
+        try (FixtureServer server = FixtureServer.start(remote)) {
+            SimpleMavenResolver resolver = new SimpleMavenResolver(
+                    new SimpleLocalRepository("local", directory.resolve("local").toFile(), Collections.emptyList()),
+                    Collections.singletonList(new SimpleRemoteRepository(
+                            "fixture",
+                            server.getUrl(),
+                            Collections.emptyList(),
+                            0,
+                            0L,
+                            server.getUrl().resolve("index.txt"))),
+                    new SimpleDependencyResolver(),
+                    0,
+                    0);
+            List<ResolvedArtifact> artifacts = resolver.resolve(Collections.singletonList(
+                    resolver.getDependencyResolver().resolve(GROUP_ID + ":listed:" + VERSION)));
+            assertEquals(2, artifacts.size());
+            assertEquals("unlisted", artifacts.get(1).getArtifactId());
+            assertEquals(1, server.getAttempts("/index.txt"));
+        }
+    }
+
+    @Test
+    void revalidatesMetadataWithoutDownloadingAgain() throws IOException {
+        Path remote = directory.resolve("remote");
+        String version = "1.0-SNAPSHOT";
+        Path parent = remote.resolve(GROUP_ID.replace('.', '/')).resolve("snapshot").resolve(version);
+        Files.createDirectories(parent);
+        Files.write(
+                parent.resolve("maven-metadata.xml"),
+                FixtureRepository.snapshotMetadata(GROUP_ID, "snapshot", version, 3));
+        Files.write(
+                parent.resolve("snapshot-1.0-20250101.120000-3.pom"),
+                FixtureRepository.pom(
+                        GROUP_ID, "snapshot", version, Collections.emptyList(), Collections.emptyMap()));
+        byte[] jar = new byte[512];
+        Arrays.fill(jar, (byte) 1);
+        Files.write(parent.resolve("snapshot-1.0-20250101.120000-3.jar"), jar);
+        List<RepositoryPolicy> policies = Collections.singletonList(RepositoryPolicy.ALWAYS_UPDATE);
+        Path metadata = directory.resolve("local")
+                .resolve(GROUP_ID.replace('.', '/'))
+                .resolve("snapshot")
+                .resolve(version)
+                .resolve("maven-metadata-fixture.xml");
+        try (FixtureServer server = FixtureServer.start(remote)) {
+            resolve(server.getUrl(), policies, "snapshot:" + version);
+            byte[] cached = Files.readAllBytes(metadata);
+            assertEquals(0L, server.getResponses(304));
+            List<ResolvedArtifact> artifacts = resolve(server.getUrl(), policies, "snapshot:" + version);
+            assertEquals(1, artifacts.size());
+            assertEquals("1.0-20250101.120000-3", artifacts.get(0).getActualVersion());
+            assertTrue(server.getResponses(304) > 0);
+            assertArrayEquals(cached, Files.readAllBytes(metadata));
+        }
+    }
+
+    @Test
+    void discardsStaleChecksumsOnRedownload() throws IOException {
+        Path remote = directory.resolve("remote");
+        String version = "1.0-SNAPSHOT";
+        Path parent = remote.resolve(GROUP_ID.replace('.', '/')).resolve("rebuilt").resolve(version);
+        Files.createDirectories(parent);
+        List<RepositoryPolicy> policies = Collections.singletonList(RepositoryPolicy.ALWAYS_UPDATE);
+        try (FixtureServer server = FixtureServer.start(remote)) {
+            writeSnapshot(parent, "rebuilt", version, 3);
+            File file = resolve(server.getUrl(), policies, "rebuilt:" + version).get(0).getFile();
+            IntegrityScanner.writeChecksums(file);
+            assertNull(IntegrityScanner.verify(file, true));
+            writeSnapshot(parent, "rebuilt", version, 4);
+            List<ResolvedArtifact> artifacts = resolve(server.getUrl(), policies, "rebuilt:" + version);
+            assertEquals("1.0-20250101.120000-4", artifacts.get(0).getActualVersion());
+            assertEquals(file, artifacts.get(0).getFile());
+            assertFalse(new File(file.getPath() + ".sha1").exists());
+            assertFalse(new File(file.getPath() + ".sha256").exists());
+            assertNull(IntegrityScanner.verify(file, true));
+        }
+    }
+
+    @Test
+    void rejectsFileSmallerThanHundredBytes() throws IOException {
+        Path remote = writeArtifact("tiny");
+        Files.write(jarPath(remote, "tiny"), new byte[] {1, 2, 3});
+        try (FixtureServer server = FixtureServer.start(remote)) {
+            assertThrows(
+                    MavenResolutionException.class, () -> resolve(server.getUrl(), Collections.emptyList(), "tiny"));
+            assertFalse(Files.exists(localPath("tiny", ".jar")));
+        }
+    }
+
+    private static void writeSnapshot(Path parent, String artifactId, String version, int build)
+            throws IOException {
+        Files.write(
+                parent.resolve("maven-metadata.xml"),
+                FixtureRepository.snapshotMetadata(GROUP_ID, artifactId, version, build));
+        String name = artifactId + "-1.0-20250101.120000-" + build;
+        Files.write(
+                parent.resolve(name + ".pom"),
+                FixtureRepository.pom(GROUP_ID, artifactId, version, Collections.emptyList(), Collections.emptyMap()));
+        ByteArrayOutputStream jar = new ByteArrayOutputStream();
+        try (ZipOutputStream output = new ZipOutputStream(jar)) {
+            output.putNextEntry(new ZipEntry("build.txt"));
+            byte[] content = new byte[256];
+            Arrays.fill(content, (byte) build);
+            output.write(content);
+            output.closeEntry();
+        }
+        Files.write(parent.resolve(name + ".jar"), jar.toByteArray());
+    }
+
+    private Path writeArtifact(String artifactId) throws IOException {
+        Path remote = directory.resolve("remote");
+        FixtureRepository.writeArtifact(remote, GROUP_ID, artifactId, VERSION, Collections.emptyList());
+        return remote;
+    }
+
+    private static String remotePath(String artifactId, String extension) {
+        return GROUP_ID.replace('.', '/') + "/" + artifactId + "/" + VERSION + "/" + artifactId + "-" + VERSION
+                + extension;
+    }
+
+    private static Path jarPath(Path repository, String artifactId) {
+        return repository
+                .resolve(GROUP_ID.replace('.', '/'))
+                .resolve(artifactId)
+                .resolve(VERSION)
+                .resolve(artifactId + "-" + VERSION + ".jar");
+    }
+
+    private static byte[] readJar(Path repository, String artifactId) throws IOException {
+        return Files.readAllBytes(jarPath(repository, artifactId));
+    }
+
+    private Path localPath(String artifactId, String extension) {
+        return directory
+                .resolve("local")
+                .resolve(GROUP_ID.replace('.', '/'))
+                .resolve(artifactId)
+                .resolve(VERSION)
+                .resolve(artifactId + "-" + VERSION + extension);
+    }
+
+    private List<ResolvedArtifact> resolve(URI url, List<RepositoryPolicy> policies, String coordinates) {
+        SimpleMavenResolver resolver = new SimpleMavenResolver(
+                new SimpleLocalRepository("local", directory.resolve("local").toFile(), policies),
+                Collections.singletonList(new SimpleRemoteRepository("fixture", url, policies)),
+                new SimpleDependencyResolver(),
+                0,
+                0);
+        String id = coordinates.indexOf(':') < 0 ? coordinates + ":" + VERSION : coordinates;
+        return resolver.resolve(
+                Collections.singletonList(resolver.getDependencyResolver().resolve(GROUP_ID + ":" + id)));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+
+class SimplePomTest {
+
+    @Test
+    void resolvesProjectAndParentProperties() {
+        SimplePom pom = parse("<parent>"
+                + "<groupId>org.parent</groupId><artifactId>parent</artifactId><version>3.1</version>"
+                + "</parent>"
+                + "<artifactId>child</artifactId>"
+                + "<dependencies>"
+                + dependency("${project.groupId}", "${project.artifactId}-api", "${project.version}", null)
+                + dependency("${project.parent.groupId}", "bom", "${project.parent.version}", null)
+                + "</dependencies>");
+        assertEquals("org.parent:child:3.1", pom.getCoordinates());
+        List<SimpleDependency> dependencies = pom.getDependencies();
+        assertEquals(2, dependencies.size());
+        assertDependency("org.parent", "child-api", "3.1", dependencies.get(0));
+        assertDependency("org.parent", "bom", "3.1", dependencies.get(1));
+    }
+
+    @Test
+    void prefersOwnCoordinatesOverParent() {
+        SimplePom pom = parse("<parent><groupId>org.parent</groupId><version>3.1</version></parent>"
+                + "<groupId>org.child</groupId><artifactId>child</artifactId><version>1.2</version>"
+                + "<dependencies>"
+                + dependency("${project.groupId}", "sibling", "${project.version}", null)
+                + "</dependencies>");
+        assertDependency("org.child", "sibling", "1.2", pom.getDependencies().get(0));
+    }
+
+    @Test
+    void resolvesNestedPropertiesAndKeepsScope() {
+        SimplePom pom = parse("<groupId>org.child</groupId><artifactId>child</artifactId><version>1.0</version>"
+                + "<properties><base>2</base><lib.version>${base}.0-${suffix}</lib.version>"
+                + "<suffix>final</suffix></properties>"
+                + "<dependencies>"
+                + dependency("org.lib", "lib", "${lib.version}", "runtime")
+                + dependency("org.lib", "other", "${missing}", "test")
+                + "</dependencies>");
+        List<SimpleDependency> dependencies = pom.getDependencies();
+        assertDependency("org.lib", "lib", "2.0-final", dependencies.get(0));
+        assertEquals(DependencyScope.RUNTIME, dependencies.get(0).getScope());
+        assertEquals("${missing}", dependencies.get(1).getVersion());
+        assertEquals(DependencyScope.TEST, dependencies.get(1).getScope());
+        assertSame(dependencies, pom.getDependencies());
+        assertThrows(UnsupportedOperationException.class, () -> dependencies.clear());
+    }
+
+    @Test
+    void reportsCyclicProperties() {
+        SimplePom pom = parse("<groupId>org.child</groupId><artifactId>child</artifactId><version>1.0</version>"
+                + "<properties><a>${b}</a><b>${a}</b></properties>"
+                + "<dependencies>"
+                + dependency("org.lib", "lib", "${a}", null)
+                + "</dependencies>");
+        assertThrows(MavenResolutionException.class, pom::getDependencies);
+    }
+
+    private static SimplePom parse(String body) {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\"><modelVersion>4.0.0</modelVersion>"
+                + body
+                + "</project>";
+        return SimplePom.resolve(
+                new SimpleDependencyResolver(), new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String dependency(String groupId, String artifactId, String version, String scope) {
+        return "<dependency><groupId>" + groupId + "</groupId><artifactId>" + artifactId + "</artifactId><version>"
+                + version + "</version>" + (scope == null ? "" : "<scope>" + scope + "</scope>") + "</dependency>";
+    }
+
+    private static void assertDependency(
+            String groupId, String artifactId, String version, SimpleDependency dependency) {
+        assertEquals(groupId, dependency.getGroupId());
+        assertEquals(artifactId, dependency.getArtifactId());
+        assertEquals(version, dependency.getVersion());
+    }
+}
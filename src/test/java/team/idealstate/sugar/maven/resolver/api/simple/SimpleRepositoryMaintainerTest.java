@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SimpleRepositoryMaintainerTest {
+
+    private static final int FILE_SIZE = 1000;
+    private static final long TIMEOUT = 10_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void isDisabledWithoutSizeLimit() {
+        assertNull(SimpleRepositoryMaintainer.of(repository(0L)));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedAndKeepsReferenced() throws IOException, InterruptedException {
+        long now = System.currentTimeMillis();
+        File oldest = writeVersion("1.0", now - 30_000L);
+        File older = writeVersion("1.1", now - 20_000L);
+        File snapshot = writeVersion("2.0-SNAPSHOT", now);
+        File referenced = writeVersion("0.9", now - 40_000L);
+        File interrupted = writeVersion("0.8.sugar-evicting", now - 50_000L);
+        SimpleRepositoryMaintainer maintainer = SimpleRepositoryMaintainer.of(repository(FILE_SIZE * 2L + 1));
+        assertNotNull(maintainer);
+        maintainer.touch(new File(referenced, "lib-0.9.jar"));
+        maintainer.schedule();
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (older.exists() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+        }
+        assertFalse(interrupted.exists());
+        assertFalse(oldest.exists());
+        assertFalse(older.exists());
+        assertTrue(snapshot.exists());
+        assertTrue(referenced.exists());
+        assertFalse(new File(oldest.getPath() + ".sugar-evicting").exists());
+    }
+
+    private SimpleLocalRepository repository(long maxSize) {
+        return new SimpleLocalRepository(
+                "local",
+                directory.toFile(),
+                Collections.emptyList(),
+                Collections.emptyList(),
+                maxSize);
+    }
+
+    private File writeVersion(String version, long lastModified) throws IOException {
+        Path versionDirectory = directory.resolve("org/example/lib").resolve(version);
+        Files.createDirectories(versionDirectory);
+        Files.write(versionDirectory.resolve("lib-" + version + ".jar"), new byte[FILE_SIZE]);
+        File file = versionDirectory.toFile();
+        assertTrue(file.setLastModified(lastModified));
+        return file;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.ResolutionFailureMode;
+
+class SimpleResolutionCacheTest {
+
+    private static final String GROUP_ID = FixtureRepository.GROUP_ID;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void skipsSubtreesWithUnstableChildren() throws IOException {
+        Path remote = directory.resolve("remote");
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "ranged", "1.0", dependency("leaf:[1.0,2.0)"));
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "fixed", "1.0", dependency("leaf:1.0"));
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "ranged-user", "1.0", dependency("ranged:1.0"));
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "fixed-user", "1.0", dependency("fixed:1.0"));
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "leaf", "1.0", Collections.emptyList());
+        Files.write(
+                remote.resolve(GROUP_ID.replace('.', '/')).resolve("leaf/maven-metadata.xml"),
+                ("<metadata><groupId>" + GROUP_ID + "</groupId><artifactId>leaf</artifactId>"
+                                + "<versioning><versions><version>1.0</version></versions></versioning></metadata>")
+                        .getBytes(StandardCharsets.UTF_8));
+        SimpleMavenResolver resolver = new SimpleMavenResolver(
+                new SimpleLocalRepository("local", directory.resolve("local").toFile(), Collections.emptyList()),
+                Collections.singletonList(
+                        new SimpleRemoteRepository("fixture", remote.toUri(), Collections.emptyList())),
+                new SimpleDependencyResolver(),
+                16,
+                0,
+                ResolutionFailureMode.FAIL_FAST);
+        resolver.resolve(Collections.singletonList(root("ranged")), DependencyScope.COMPILE);
+        resolver.resolve(Collections.singletonList(root("fixed")), DependencyScope.COMPILE);
+        assertEquals(SimpleResolutionNode.SOURCE_RESOLVED, sourceOfChild(resolver, "ranged-user"));
+        assertEquals(SimpleResolutionNode.SOURCE_CACHE, sourceOfChild(resolver, "fixed-user"));
+    }
+
+    private static String sourceOfChild(SimpleMavenResolver resolver, String artifactId) {
+        SimpleResolutionReport report =
+                resolver.resolveGraph(Collections.singletonList(root(artifactId)), DependencyScope.COMPILE);
+        return report.getRoots().get(0).getChildren().get(0).getSource();
+    }
+
+    private static SimpleDependency root(String artifactId) {
+        return new SimpleDependency(GROUP_ID, artifactId, "jar", "", "1.0", DependencyScope.COMPILE);
+    }
+
+    private static List<String> dependency(String id) {
+        return Collections.singletonList(GROUP_ID + ":" + id);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
+import team.idealstate.sugar.maven.resolver.api.ResolutionFailureMode;
+
+class SimpleResolutionGraphTest {
+
+    private static final DependencyScope SCOPE = DependencyScope.COMPILE;
+    private static final Set<DependencyScope> SCOPES = Collections.singleton(SCOPE);
+
+    @TempDir
+    Path directory;
+
+    private SimpleLocalRepository localRepository;
+    private File file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        localRepository = new SimpleLocalRepository("local", directory.toFile(), Collections.emptyList());
+        Path artifact = directory.resolve("org/example/lib/1.0/lib-1.0.jar");
+        Files.createDirectories(artifact.getParent());
+        Files.write(artifact, new byte[128]);
+        file = artifact.toFile();
+    }
+
+    @Test
+    void keepsEntriesOfOtherRepositoryConfigurations() {
+        SimpleResolutionGraph central = graph("https://repo.example.org/maven2/");
+        SimpleResolutionGraph mirror = graph("https://mirror.example.org/maven2/");
+        central.put(key("first"), artifacts(), true);
+        central.save();
+        mirror.put(key("second"), artifacts(), true);
+        mirror.save();
+        assertNotNull(graph("https://repo.example.org/maven2/").get(key("first")));
+        assertNull(graph("https://repo.example.org/maven2/").get(key("second")));
+        assertNotNull(graph("https://mirror.example.org/maven2/").get(key("second")));
+    }
+
+    @Test
+    void mergesConcurrentInstancesOnSave() {
+        SimpleResolutionGraph first = graph("https://repo.example.org/maven2/");
+        SimpleResolutionGraph second = graph("https://repo.example.org/maven2/");
+        assertNull(first.get(key("first")));
+        assertNull(second.get(key("second")));
+        first.put(key("first"), artifacts(), true);
+        second.put(key("second"), artifacts(), true);
+        first.save();
+        second.save();
+        SimpleResolutionGraph reloaded = graph("https://repo.example.org/maven2/");
+        assertNotNull(reloaded.get(key("first")));
+        assertNotNull(reloaded.get(key("second")));
+    }
+
+    @Test
+    void prunesAgedOutAndInvalidEntries() throws IOException {
+        SimpleResolutionGraph graph = graph("https://repo.example.org/maven2/");
+        graph.put(key("aged"), artifacts(), true);
+        graph.put(key("kept"), artifacts(), true);
+        graph.save();
+        Path graphFile = directory.resolve(".sugar-graph");
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(graphFile)) {
+            properties.load(input);
+        }
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith("used.") && name.contains("aged")) {
+                properties.setProperty(name, "1");
+            }
+        }
+        try (OutputStream output = Files.newOutputStream(graphFile)) {
+            properties.store(output, null);
+        }
+        SimpleResolutionGraph other = graph("https://repo.example.org/maven2/");
+        other.put(key("other"), artifacts(), true);
+        other.save();
+        SimpleResolutionGraph reloaded = graph("https://repo.example.org/maven2/");
+        assertNull(reloaded.get(key("aged")));
+        assertNotNull(reloaded.get(key("kept")));
+        Files.delete(file.toPath());
+        assertNull(reloaded.get(key("kept")));
+        reloaded.save();
+        properties = new Properties();
+        try (InputStream input = Files.newInputStream(graphFile)) {
+            properties.load(input);
+        }
+        assertEquals(3, properties.size());
+    }
+
+    @Test
+    void skipsSubtreesWithTransitiveRangesOrSnapshots() throws IOException {
+        Path remote = directory.resolve("remote");
+        String groupId = FixtureRepository.GROUP_ID;
+        FixtureRepository.writeArtifact(
+                remote, groupId, "ranged", "1.0", Collections.singletonList(groupId + ":leaf:[1.0,2.0)"));
+        FixtureRepository.writeArtifact(
+                remote, groupId, "snapshot", "1.0", Collections.singletonList(groupId + ":leaf:1.1-SNAPSHOT"));
+        FixtureRepository.writeArtifact(
+                remote, groupId, "fixed", "1.0", Collections.singletonList(groupId + ":leaf:1.0"));
+        FixtureRepository.writeArtifact(remote, groupId, "leaf", "1.0", Collections.emptyList());
+        FixtureRepository.writeArtifact(remote, groupId, "leaf", "1.1-SNAPSHOT", Collections.emptyList());
+        Files.write(
+                remote.resolve(groupId.replace('.', '/')).resolve("leaf/maven-metadata.xml"),
+                ("<metadata><groupId>" + groupId + "</groupId><artifactId>leaf</artifactId>"
+                                + "<versioning><versions><version>1.0</version></versions></versioning></metadata>")
+                        .getBytes(StandardCharsets.UTF_8));
+        List<RemoteRepository> remoteRepositories = Collections.singletonList(
+                new SimpleRemoteRepository("fixture", remote.toUri(), Collections.emptyList()));
+        SimpleMavenResolver resolver = new SimpleMavenResolver(
+                localRepository,
+                remoteRepositories,
+                new SimpleDependencyResolver(),
+                0,
+                0,
+                ResolutionFailureMode.FAIL_FAST);
+        for (String artifactId : new String[] {"ranged", "snapshot", "fixed"}) {
+            assertEquals(2, resolver.resolve(Collections.singletonList(root(groupId, artifactId)), SCOPE).size());
+        }
+        SimpleResolutionGraph graph = new SimpleResolutionGraph(localRepository, remoteRepositories);
+        assertNull(graph.get(SimpleResolutionGraph.makeKey(root(groupId, "ranged").getCoordinate(), SCOPES)));
+        assertNull(graph.get(SimpleResolutionGraph.makeKey(root(groupId, "snapshot").getCoordinate(), SCOPES)));
+        assertNotNull(graph.get(SimpleResolutionGraph.makeKey(root(groupId, "fixed").getCoordinate(), SCOPES)));
+    }
+
+    private static SimpleDependency root(String groupId, String artifactId) {
+        return new SimpleDependency(groupId, artifactId, "jar", "", "1.0", SCOPE);
+    }
+
+    private SimpleResolutionGraph graph(String url) {
+        return new SimpleResolutionGraph(
+                localRepository,
+                Collections.singletonList(
+                        new SimpleRemoteRepository("remote", URI.create(url), Collections.emptyList())));
+    }
+
+    private static String key(String artifactId) {
+        return SimpleResolutionGraph.makeKey(
+                SimpleCoordinate.of("org.example", artifactId, "jar", "", "1.0"), SCOPES);
+    }
+
+    private Set<SimpleResolvedArtifact> artifacts() {
+        return Collections.singleton(new SimpleResolvedArtifact(
+                SimpleCoordinate.of("org.example", "lib", "jar", "", "1.0"),
+                "1.0",
+                LocalDateTime.now(),
+                localRepository,
+                Collections.emptyList(),
+                file));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.ResolutionGraph;
+import team.idealstate.sugar.maven.resolver.api.ResolutionGraphFormat;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+
+class SimpleResolutionReportTest {
+
+    private static final String GROUP_ID = FixtureRepository.GROUP_ID;
+    private static final String VERSION = FixtureRepository.VERSION;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void returnsGraphOfEachCall() throws IOException {
+        Path remote = directory.resolve("remote");
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "first", VERSION, Collections.singletonList("shared"));
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "second", VERSION, Collections.emptyList());
+        FixtureRepository.writeArtifact(remote, GROUP_ID, "shared", VERSION, Collections.emptyList());
+        SimpleMavenResolver resolver = new SimpleMavenResolver(
+                new SimpleLocalRepository("local", directory.resolve("local").toFile(), Collections.emptyList()),
+                Collections.singletonList(
+                        new SimpleRemoteRepository("fixture", remote.toUri(), Collections.emptyList())),
+                new SimpleDependencyResolver(),
+                0,
+                0);
+
+        ResolutionGraph first = resolver.resolveGraph(dependencies(resolver, "first"));
+        ResolutionGraph second = resolver.resolveGraph(dependencies(resolver, "second"));
+
+        List<ResolvedArtifact> artifacts = first.getArtifacts();
+        assertEquals(2, artifacts.size());
+        assertEquals("first", artifacts.get(0).getArtifactId());
+        assertEquals("shared", artifacts.get(1).getArtifactId());
+        assertEquals(1, second.getArtifacts().size());
+        String json = export(first, ResolutionGraphFormat.JSON);
+        assertTrue(json.contains(GROUP_ID + ":first:jar:" + VERSION), json);
+        assertFalse(json.contains(":second:"), json);
+        String dot = export(second, ResolutionGraphFormat.DOT);
+        assertTrue(dot.startsWith("digraph"), dot);
+        assertTrue(dot.contains(GROUP_ID + ":second:jar:" + VERSION), dot);
+        assertFalse(dot.contains(":first:"), dot);
+    }
+
+    @Test
+    void returnsEmptyGraphWithoutDependencies() {
+        SimpleMavenResolver resolver = new SimpleMavenResolver(
+                new SimpleLocalRepository("local", directory.toFile(), Collections.emptyList()),
+                Collections.emptyList(),
+                new SimpleDependencyResolver());
+        ResolutionGraph graph = resolver.resolveGraph(Collections.emptyList());
+        assertTrue(graph.getArtifacts().isEmpty());
+        assertTrue(export(graph, ResolutionGraphFormat.JSON).contains("\"roots\":[]"));
+    }
+
+    private static List<Dependency> dependencies(SimpleMavenResolver resolver, String artifactId) {
+        return Collections.singletonList(
+                resolver.getDependencyResolver().resolve(GROUP_ID + ":" + artifactId + ":" + VERSION));
+    }
+
+    private static String export(ResolutionGraph graph, ResolutionGraphFormat format) {
+        StringWriter writer = new StringWriter();
+        graph.export(writer, format);
+        return writer.toString();
+    }
+}
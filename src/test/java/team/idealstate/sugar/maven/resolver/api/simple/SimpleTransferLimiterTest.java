@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SimpleTransferLimiterTest {
+
+    @Test
+    void isDisabledWithoutLimits() {
+        assertNull(SimpleTransferLimiter.of(repository("https://disabled.example.org/", 0L)));
+    }
+
+    @Test
+    void doesNotOverflowWithLargeBandwidth() throws InterruptedException {
+        SimpleTransferLimiter limiter = SimpleTransferLimiter.of(repository("https://fast.example.org/", 10L << 40));
+        assertNotNull(limiter);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            limiter.consume(1L << 20);
+            Thread.sleep(1L);
+        }
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void throttlesToBandwidth() throws InterruptedException {
+        SimpleTransferLimiter limiter = SimpleTransferLimiter.of(repository("https://slow.example.org/", 1L << 20));
+        assertNotNull(limiter);
+        long startedAt = System.nanoTime();
+        limiter.consume(1L << 20);
+        limiter.consume(1L << 19);
+        long elapsed = System.nanoTime() - startedAt;
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(400), Long.toString(elapsed));
+        assertTrue(elapsed < TimeUnit.SECONDS.toNanos(5), Long.toString(elapsed));
+    }
+
+    @Test
+    void throttlesWhileReading() throws IOException {
+        SimpleTransferLimiter limiter = SimpleTransferLimiter.of(repository("https://stream.example.org/", 1L << 16));
+        assertNotNull(limiter);
+        byte[] content = new byte[3 << 15];
+        Arrays.fill(content, (byte) 0x5A);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length);
+        byte[] buffer = new byte[1 << 13];
+        long startedAt = System.nanoTime();
+        long firstStallAt = -1L;
+        try (InputStream input = limiter.limit(new ByteArrayInputStream(content))) {
+            int read;
+            while ((read = input.read(buffer)) >= 0) {
+                output.write(buffer, 0, read);
+                if (firstStallAt < 0 && System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(50)) {
+                    firstStallAt = output.size();
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        assertArrayEquals(content, output.toByteArray());
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(400), Long.toString(elapsed));
+        assertTrue(firstStallAt > 0 && firstStallAt < content.length, Long.toString(firstStallAt));
+    }
+
+    private static SimpleRemoteRepository repository(String url, long bandwidth) {
+        return new SimpleRemoteRepository("remote", URI.create(url), Collections.emptyList(), 0, bandwidth);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.MavenResolver;
+import team.idealstate.sugar.maven.resolver.api.Repository;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.maven.resolver.spi.RepositoryTransport;
+import team.idealstate.sugar.maven.resolver.spi.TransportRequest;
+import team.idealstate.sugar.maven.resolver.spi.TransportResponse;
+
+class SimpleTransportsTest {
+
+    private static final String SCHEME = "mirror";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void discoversTransportsPerClassLoader() throws IOException {
+        ClassLoader parent = SimpleTransportsTest.class.getClassLoader();
+        try (URLClassLoader plugin = pluginClassLoader()) {
+            List<RepositoryTransport> transports = SimpleTransports.of(plugin);
+            assertTrue(transports.get(0) instanceof MirrorTransport);
+            assertSame(transports, SimpleTransports.of(plugin));
+            for (RepositoryTransport transport : SimpleTransports.of(parent)) {
+                assertFalse(transport instanceof MirrorTransport);
+            }
+            assertFalse(SimpleTransports.isShared(plugin, parent));
+            assertTrue(SimpleTransports.isShared(parent, parent));
+        }
+    }
+
+    @Test
+    void resolvesThroughTransportOfCallerClassLoader() throws IOException {
+        Path remote = directory.resolve("remote");
+        FixtureRepository.writeArtifact(
+                remote, FixtureRepository.GROUP_ID, "plugin", FixtureRepository.VERSION, Collections.emptyList());
+        Path configuration = directory.resolve("config.xml");
+        Files.write(
+                configuration,
+                ("<resolver><local><name>local</name><url>" + directory.resolve("local").toUri() + "</url></local>"
+                                + "<remote><repository><name>mirror</name><url>" + SCHEME + ":"
+                                + remote.toUri().getRawPath() + "</url></repository></remote></resolver>")
+                        .getBytes(StandardCharsets.UTF_8));
+        try (URLClassLoader plugin = pluginClassLoader()) {
+            MavenResolver resolver = new SimpleMavenResolverLoader().load(configuration.toFile(), plugin);
+            List<ResolvedArtifact> artifacts = resolver.resolve(Collections.singletonList(resolver
+                    .getDependencyResolver()
+                    .resolve(FixtureRepository.GROUP_ID + ":plugin:" + FixtureRepository.VERSION)));
+            assertEquals(1, artifacts.size());
+            assertTrue(artifacts.get(0).getFile().isFile());
+        }
+    }
+
+    private URLClassLoader pluginClassLoader() throws IOException {
+        Path services = directory.resolve("plugin/META-INF/services");
+        Files.createDirectories(services);
+        Files.write(
+                services.resolve(RepositoryTransport.class.getName()),
+                MirrorTransport.class.getName().getBytes(StandardCharsets.UTF_8));
+        return new URLClassLoader(
+                new URL[] {directory.resolve("plugin").toUri().toURL()},
+                SimpleTransportsTest.class.getClassLoader());
+    }
+
+    public static final class MirrorTransport implements RepositoryTransport {
+
+        private final SimpleFileTransport delegate = new SimpleFileTransport();
+
+        @Override
+        public boolean isSupported(Repository repository, URI location) {
+            return SCHEME.equals(location.getScheme());
+        }
+
+        @Override
+        public boolean exists(Repository repository, URI location) {
+            return toFile(location).exists();
+        }
+
+        @Override
+        public TransportResponse fetch(Repository repository, URI location, TransportRequest request)
+                throws IOException {
+            return delegate.fetch(repository, toFile(location).toURI(), request);
+        }
+
+        private static File toFile(URI location) {
+            return new File(location.getPath());
+        }
+    }
+}
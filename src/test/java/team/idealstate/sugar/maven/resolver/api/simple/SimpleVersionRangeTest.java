@@ -0,0 +1,148 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.ResolutionFailureMode;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+
+class SimpleVersionRangeTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void detectsRanges() {
+        assertTrue(SimpleVersionRange.isRange("[1.0,2.0)"));
+        assertTrue(SimpleVersionRange.isRange("(,1.0]"));
+        assertTrue(SimpleVersionRange.isRange(SimpleVersionRange.LATEST));
+        assertTrue(SimpleVersionRange.isRange(SimpleVersionRange.RELEASE));
+        assertFalse(SimpleVersionRange.isRange("1.0"));
+        assertFalse(SimpleVersionRange.isRange(""));
+    }
+
+    @Test
+    void honoursInclusiveAndExclusiveBounds() {
+        SimpleVersionRange halfOpen = SimpleVersionRange.parse("[1.0,2.0)");
+        assertTrue(contains(halfOpen, "1.0"));
+        assertTrue(contains(halfOpen, "1.5"));
+        assertFalse(contains(halfOpen, "2.0"));
+        assertFalse(contains(halfOpen, "0.9"));
+        SimpleVersionRange otherHalf = SimpleVersionRange.parse("(1.0,2.0]");
+        assertFalse(contains(otherHalf, "1.0"));
+        assertTrue(contains(otherHalf, "2.0"));
+        SimpleVersionRange exact = SimpleVersionRange.parse("[1.5]");
+        assertTrue(contains(exact, "1.5"));
+        assertTrue(contains(exact, "1.5.0"));
+        assertFalse(contains(exact, "1.5.1"));
+    }
+
+    @Test
+    void supportsOpenBounds() {
+        SimpleVersionRange noLower = SimpleVersionRange.parse("(,1.0]");
+        assertTrue(contains(noLower, "0.0.1"));
+        assertTrue(contains(noLower, "1.0"));
+        assertFalse(contains(noLower, "1.0.1"));
+        SimpleVersionRange noUpper = SimpleVersionRange.parse("[1.0,)");
+        assertTrue(contains(noUpper, "99.0"));
+        assertFalse(contains(noUpper, "1.0-rc1"));
+        SimpleVersionRange unions = SimpleVersionRange.parse("(,1.0],[1.2,)");
+        assertTrue(contains(unions, "0.9"));
+        assertFalse(contains(unions, "1.1"));
+        assertTrue(contains(unions, "1.3"));
+    }
+
+    @Test
+    void excludesSnapshotsUnlessABoundIsSnapshot() {
+        assertFalse(contains(SimpleVersionRange.parse("[1.0,2.0)"), "1.5-SNAPSHOT"));
+        assertTrue(contains(SimpleVersionRange.parse("[1.0-SNAPSHOT,2.0)"), "1.5-SNAPSHOT"));
+    }
+
+    @Test
+    void selectsHighestMatchingVersion() {
+        List<SimpleVersion> versions = versions("1.0", "1.5", "2.0-SNAPSHOT", "1.9", "2.0", "3.0-SNAPSHOT");
+        assertEquals("1.9", select("[1.0,2.0)", versions));
+        assertEquals("2.0", select("[1.0,)", versions));
+        assertEquals("3.0-SNAPSHOT", select(SimpleVersionRange.LATEST, versions));
+        assertEquals("2.0", select(SimpleVersionRange.RELEASE, versions));
+        assertNull(SimpleVersionRange.parse("[4.0,)").select(versions));
+    }
+
+    @Test
+    void rejectsMalformedRanges() {
+        for (String spec : new String[] {"[1.0", "1.0,2.0]", "[1.0,2.0", "(1.0]", "[]", "[1.0],x"}) {
+            assertThrows(IllegalArgumentException.class, () -> SimpleVersionRange.parse(spec), spec);
+        }
+    }
+
+    @Test
+    void reportsMalformedTransitiveRangeAsResolutionFailure() throws IOException {
+        Path remote = directory.resolve("remote");
+        String groupId = FixtureRepository.GROUP_ID;
+        FixtureRepository.writeArtifact(
+                remote, groupId, "root", "1.0", Collections.singletonList(groupId + ":leaf:[1.0"));
+        assertThrows(MavenResolutionException.class, () -> resolve(remote, ResolutionFailureMode.FAIL_FAST));
+        assertThrows(MavenResolutionException.class, () -> resolve(remote, ResolutionFailureMode.AGGREGATE));
+        List<ResolvedArtifact> artifacts = resolve(remote, ResolutionFailureMode.PARTIAL);
+        assertEquals(1, artifacts.size());
+        assertEquals("root", artifacts.get(0).getArtifactId());
+    }
+
+    private List<ResolvedArtifact> resolve(Path remote, ResolutionFailureMode failureMode) {
+        SimpleMavenResolver resolver = new SimpleMavenResolver(
+                new SimpleLocalRepository("local", directory.resolve("local").toFile(), Collections.emptyList()),
+                Collections.singletonList(
+                        new SimpleRemoteRepository("fixture", remote.toUri(), Collections.emptyList())),
+                new SimpleDependencyResolver(),
+                0,
+                0,
+                failureMode);
+        return resolver.resolve(Collections.singletonList(
+                resolver.getDependencyResolver().resolve(FixtureRepository.GROUP_ID + ":root:1.0")));
+    }
+
+    private static boolean contains(SimpleVersionRange range, String version) {
+        return range.contains(SimpleVersion.parse(version));
+    }
+
+    private static String select(String spec, List<SimpleVersion> versions) {
+        SimpleVersion selected = SimpleVersionRange.parse(spec).select(versions);
+        return selected == null ? null : selected.getValue();
+    }
+
+    private static List<SimpleVersion> versions(String... values) {
+        List<SimpleVersion> versions = new ArrayList<>(values.length);
+        for (String value : values) {
+            versions.add(SimpleVersion.parse(value));
+        }
+        Collections.sort(versions);
+        return versions;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SimpleVersionTest {
+
+    @Test
+    void ordersQualifiers() {
+        assertOrdered(
+                "1.0-alpha-1",
+                "1.0-alpha-2",
+                "1.0-beta",
+                "1.0-milestone-1",
+                "1.0-rc1",
+                "1.0-SNAPSHOT",
+                "1.0",
+                "1.0-sp1",
+                "1.0-unknown",
+                "1.0.1");
+    }
+
+    @Test
+    void ordersNumbersNumerically() {
+        assertOrdered("1.2", "1.9", "1.10", "1.10.1", "2", "10");
+    }
+
+    @Test
+    void treatsReleaseAliasesAndPaddingAsEqual() {
+        assertEquivalent("1.0", "1.0.0");
+        assertEquivalent("1.0", "1.0-ga");
+        assertEquivalent("1.0", "1.0-final");
+        assertEquivalent("1.0", "1.0-release");
+        assertEquivalent("1.010", "1.10");
+        assertEquivalent("1.0-a1", "1.0-alpha-1");
+        assertEquivalent("1.0-b2", "1.0-beta-2");
+        assertEquivalent("1.0-m3", "1.0-milestone-3");
+        assertEquivalent("1.0-cr1", "1.0-rc-1");
+        assertEquivalent("1.0-RC1", "1.0-rc1");
+    }
+
+    @Test
+    void ordersSnapshotBeforeRelease() {
+        SimpleVersion snapshot = SimpleVersion.parse("2.0-SNAPSHOT");
+        assertTrue(snapshot.isSnapshot());
+        assertFalse(SimpleVersion.parse("2.0").isSnapshot());
+        assertTrue(snapshot.compareTo(SimpleVersion.parse("2.0")) < 0);
+        assertTrue(snapshot.compareTo(SimpleVersion.parse("2.0-rc1")) > 0);
+        assertTrue(snapshot.compareTo(SimpleVersion.parse("1.9")) > 0);
+    }
+
+    @Test
+    void placesNumbersAfterQualifiers() {
+        assertOrdered("1.0-alpha", "1.0.0.1");
+        assertOrdered("1-sp", "1.1");
+    }
+
+    private static void assertOrdered(String... values) {
+        List<SimpleVersion> expected = new ArrayList<>(values.length);
+        for (String value : values) {
+            expected.add(SimpleVersion.parse(value));
+        }
+        List<SimpleVersion> shuffled = new ArrayList<>(expected);
+        Collections.reverse(shuffled);
+        Collections.sort(shuffled);
+        assertEquals(Arrays.toString(values), shuffled.toString());
+        for (int i = 1; i < expected.size(); i++) {
+            assertTrue(expected.get(i - 1).compareTo(expected.get(i)) < 0, values[i - 1] + " < " + values[i]);
+            assertTrue(expected.get(i).compareTo(expected.get(i - 1)) > 0, values[i] + " > " + values[i - 1]);
+            assertNotEquals(expected.get(i - 1), expected.get(i));
+        }
+    }
+
+    private static void assertEquivalent(String left, String right) {
+        SimpleVersion leftVersion = SimpleVersion.parse(left);
+        SimpleVersion rightVersion = SimpleVersion.parse(right);
+        assertEquals(0, leftVersion.compareTo(rightVersion), left + " == " + right);
+        assertEquals(leftVersion, rightVersion);
+        assertEquals(leftVersion.hashCode(), rightVersion.hashCode(), left + " hash == " + right + " hash");
+    }
+}
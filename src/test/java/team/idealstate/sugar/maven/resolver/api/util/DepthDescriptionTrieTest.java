@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import team.idealstate.sugar.validate.exception.ValidationException;
+
+class DepthDescriptionTrieTest {
+
+    @Test
+    void walksRegisteredPaths() {
+        DepthDescriptionTrie trie = new DepthDescriptionTrie();
+        int version = trie.register("project", "version");
+        int parentVersion = trie.register("project", "parent", "version");
+        assertNotEquals(version, parentVersion);
+        int project = trie.next(DepthDescriptionTrie.ROOT, "project");
+        assertEquals(version, trie.next(project, "version"));
+        assertEquals(parentVersion, trie.next(trie.next(project, "parent"), "version"));
+    }
+
+    @Test
+    void sharesPrefixesAndReusesStates() {
+        DepthDescriptionTrie trie = new DepthDescriptionTrie();
+        int groupId = trie.register("project", "groupId");
+        int size = trie.size();
+        assertEquals(groupId, trie.register("project", "groupId"));
+        assertEquals(size, trie.size());
+        trie.register("project", "artifactId");
+        assertEquals(size + 1, trie.size());
+    }
+
+    @Test
+    void staysInNoneAfterMismatch() {
+        DepthDescriptionTrie trie = new DepthDescriptionTrie();
+        trie.register("project", "version");
+        int unknown = trie.next(DepthDescriptionTrie.ROOT, "settings");
+        assertEquals(DepthDescriptionTrie.NONE, unknown);
+        assertEquals(DepthDescriptionTrie.NONE, trie.next(unknown, "version"));
+        assertEquals(DepthDescriptionTrie.NONE, trie.next(trie.next(DepthDescriptionTrie.ROOT, "project"), "name"));
+    }
+
+    @Test
+    void rejectsEmptyDescriptions() {
+        DepthDescriptionTrie trie = new DepthDescriptionTrie();
+        assertThrows(ValidationException.class, () -> trie.register());
+        assertThrows(ValidationException.class, () -> trie.register("project", " "));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ClassLoaderCacheTest {
+
+    @Test
+    void loadsOtherClassLoadersWhileOneIsLoading() throws Exception {
+        ClassLoaderCache<String> cache = new ClassLoaderCache<>();
+        ClassLoader slow = new URLClassLoader(new URL[0]);
+        ClassLoader fast = new URLClassLoader(new URL[0]);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> pending = executor.submit(() -> cache.get(slow, "key", it -> {
+                started.countDown();
+                await(release);
+                return "slow";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals("fast", cache.get(fast, "key", it -> "fast"));
+            assertFalse(pending.isDone());
+            release.countDown();
+            assertEquals("slow", pending.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void sharesOneLoadBetweenConcurrentCallers() throws Exception {
+        ClassLoaderCache<Object> cache = new ClassLoaderCache<>();
+        ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> first = executor.submit(() -> cache.get(classLoader, "key", it -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return new Object();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<Object> second = executor.submit(() -> cache.get(classLoader, "key", it -> {
+                loads.incrementAndGet();
+                return new Object();
+            }));
+            release.countDown();
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void allowsNestedLookupsAndRetriesFailures() {
+        ClassLoaderCache<String> cache = new ClassLoaderCache<>();
+        ClassLoader outer = new URLClassLoader(new URL[0]);
+        ClassLoader inner = new URLClassLoader(new URL[0]);
+        assertEquals("outer-inner", cache.get(outer, "key", it -> "outer-" + cache.get(inner, "key", key -> "inner")));
+        assertThrows(IllegalStateException.class, () -> cache.get(inner, "failing", it -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("recovered", cache.get(inner, "failing", it -> "recovered"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}